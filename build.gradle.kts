@@ -31,6 +31,140 @@ java {
     targetCompatibility = JavaVersion.VERSION_1_8
 }
 
+// tests with a recording FutureMetrics SPI registered through META-INF/services, kept apart from the main tests so
+// that they run with no SPI as by default
+val spiTest: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output + sourceSets.test.get().output +
+            configurations.testCompileClasspath.get()
+    runtimeClasspath += output + compileClasspath + configurations.testRuntimeClasspath.get()
+}
+
+configurations[spiTest.compileOnlyConfigurationName].extendsFrom(configurations.testCompileOnly.get())
+configurations[spiTest.annotationProcessorConfigurationName].extendsFrom(configurations.testAnnotationProcessor.get())
+
+val testSpi by tasks.registering(Test::class) {
+    description = "Runs the tests with a FutureMetrics SPI registered."
+    group = "verification"
+    testClassesDirs = spiTest.output.classesDirs
+    classpath = spiTest.runtimeClasspath
+}
+
+tasks.check {
+    dependsOn(testSpi)
+}
+
+// The home of a JDK of at least `feature` release, located by the `java<feature>.home` property or the
+// `JAVA<feature>_HOME` environment variable, or the running one if it is new enough, so the build still runs on JDK 8
+fun jdkHome(feature: Int): File {
+    val configured = project.properties["java$feature.home"]?.toString() ?: System.getenv("JAVA${feature}_HOME")
+    val home = when {
+        configured != null -> file(configured)
+        JavaVersion.current().majorVersion.toInt() >= feature -> file(System.getProperty("java.home"))
+        else -> throw GradleException(
+            "JDK $feature+ is required, set the `java$feature.home` property or the `JAVA${feature}_HOME` " +
+                    "environment variable"
+        )
+    }
+    if (!home.resolve("bin").isDirectory) {
+        throw GradleException("not a JDK home: $home")
+    }
+
+    return home
+}
+
+// Java 11+ classes (e.g. the JFR events), packaged in the multi-release part of the jar, compiled and tested by a
+// forked JDK 11+ located by `jdkHome(11)`
+val java11: SourceSet by sourceSets.creating {
+    java.setSrcDirs(listOf("src/main/java11"))
+    compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+}
+
+val java11Test: SourceSet by sourceSets.creating {
+    java.setSrcDirs(listOf("src/test/java11"))
+    // java11 first, so that its classes replace the ones of main as in the multi-release jar
+    compileClasspath += java11.output + sourceSets.main.get().output + configurations.testCompileClasspath.get()
+    runtimeClasspath += output + compileClasspath + configurations.testRuntimeClasspath.get()
+}
+
+listOf(java11, java11Test).forEach {
+    tasks.named<JavaCompile>(it.compileJavaTaskName) {
+        sourceCompatibility = "11"
+        targetCompatibility = "11"
+        options.isFork = true
+        doFirst {
+            options.forkOptions.javaHome = jdkHome(11)
+        }
+    }
+}
+
+val testJava11 by tasks.registering(Test::class) {
+    description = "Runs the tests of the Java 11+ classes."
+    group = "verification"
+    testClassesDirs = java11Test.output.classesDirs
+    // the multi-release jar rather than the class directories, so that the versioned classes are loaded as released
+    classpath = java11Test.output + files(tasks.jar) + configurations.testRuntimeClasspath.get()
+    systemProperty("me.hltj.vertx.metrics.jfr", "true")
+    doFirst {
+        executable = jdkHome(11).resolve("bin/java").path
+    }
+}
+
+tasks.check {
+    dependsOn(testJava11)
+}
+
+// Java 21+ classes (e.g. the virtual-thread await bridge), packaged in the multi-release part of the jar, compiled and
+// tested by a forked JDK 21+ located by `jdkHome(21)`, so a JDK 21 is required to build and check
+val java21: SourceSet by sourceSets.creating {
+    java.setSrcDirs(listOf("src/main/java21"))
+    compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+}
+
+val java21Test: SourceSet by sourceSets.creating {
+    java.setSrcDirs(listOf("src/test/java21"))
+    // java21 first, so that its classes replace the ones of main as in the multi-release jar
+    compileClasspath += java21.output + sourceSets.main.get().output + configurations.testCompileClasspath.get()
+    runtimeClasspath += output + compileClasspath + configurations.testRuntimeClasspath.get()
+}
+
+listOf(java21, java21Test).forEach {
+    tasks.named<JavaCompile>(it.compileJavaTaskName) {
+        sourceCompatibility = "21"
+        targetCompatibility = "21"
+        options.isFork = true
+        doFirst {
+            options.forkOptions.javaHome = jdkHome(21)
+        }
+    }
+}
+
+val testJava21 by tasks.registering(Test::class) {
+    description = "Runs the tests of the Java 21+ classes."
+    group = "verification"
+    testClassesDirs = java21Test.output.classesDirs
+    // the multi-release jar rather than the class directories, so that the versioned classes are loaded as released
+    classpath = java21Test.output + files(tasks.jar) + configurations.testRuntimeClasspath.get()
+    doFirst {
+        executable = jdkHome(21).resolve("bin/java").path
+    }
+}
+
+tasks.check {
+    dependsOn(testJava21)
+}
+
+tasks.jar {
+    into("META-INF/versions/11") {
+        from(java11.output)
+    }
+    into("META-INF/versions/21") {
+        from(java21.output)
+    }
+    manifest {
+        attributes("Multi-Release" to "true")
+    }
+}
+
 val javaApiDocUrl = JavaVersion.current().run {
     if (isJava11Compatible)
         "https://docs.oracle.com/en/java/javase/$majorVersion/docs/api/"
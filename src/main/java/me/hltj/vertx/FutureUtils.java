@@ -24,11 +24,23 @@ package me.hltj.vertx;
 
 import io.vertx.core.*;
 import me.hltj.vertx.future.*;
+import me.hltj.vertx.metrics.BlockingDetector;
+import me.hltj.vertx.metrics.FallbackCounters;
+import me.hltj.vertx.metrics.Metrics;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
 import java.util.function.Supplier;
 
 /**
@@ -48,10 +60,78 @@ public final class FutureUtils {
      */
     public static <T> Future<T> futurize(Consumer<Handler<AsyncResult<T>>> consumer) {
         Promise<T> promise = Promise.promise();
-        consumer.accept(promise);
+        if (!Metrics.diagnosing()) {
+            consumer.accept(promise);
+            return promise.future();
+        }
+
+        consumer.accept(ContextPropagation.wrapHandler(promise));
+        return Metrics.assembled("FutureUtils.futurize", promise.future());
+    }
+
+    /**
+     * Convert a {@link CompletionStage} to {@link Future}, that completes on {@code context}.
+     * <p>
+     * If {@code stage} is an already completed {@link CompletableFuture}, the result {@code Future} is created
+     * completed without any promise. Otherwise, the result {@code Future} is completed directly if {@code stage}
+     * completes on {@code context}, or through {@link Context#runOnContext(Handler)} if it completes elsewhere
+     * (e.g. on a thread of a third-party client), so there is no extra hop back to the event loop.
+     * <p>
+     * A {@link CompletionException} failure of {@code stage} is unwrapped to its cause.
+     *
+     * @param stage   the {@code CompletionStage}
+     * @param context the context to complete the result {@code Future} on
+     * @param <T>     the type parameter of the {@code CompletionStage}
+     * @return the result {@code Future}
+     */
+    public static <T> Future<T> fromCompletionStage(CompletionStage<T> stage, Context context) {
+        if (stage instanceof CompletableFuture && ((CompletableFuture<T>) stage).isDone()) {
+            try {
+                return Future.succeededFuture(((CompletableFuture<T>) stage).join());
+            } catch (CancellationException | CompletionException e) {
+                return Future.failedFuture(unwrap(e));
+            }
+        }
+
+        Promise<T> promise = Promise.promise();
+        stage.whenComplete((v, t) -> {
+            if (Vertx.currentContext() == context) {
+                completeWith(promise, v, t);
+            } else {
+                context.runOnContext(_v -> completeWith(promise, v, t));
+            }
+        });
         return promise.future();
     }
 
+    /**
+     * Convert a {@link Future} to {@link CompletionStage}.
+     * <p>
+     * If {@code future} is already completed, the result {@code CompletionStage} is created completed without any
+     * handler registered. Otherwise, it completes on the thread where {@code future} completes.
+     *
+     * @param future the {@code Future}
+     * @param <T>    the type parameter of the {@code Future}
+     * @return the result {@code CompletionStage}
+     */
+    public static <T> CompletionStage<T> toCompletionStage(Future<T> future) {
+        if (future.isComplete()) {
+            return future.succeeded()
+                    ? CompletableFuture.completedFuture(future.result())
+                    : failedStage(future.cause());
+        }
+
+        CompletableFuture<T> completableFuture = new CompletableFuture<>();
+        future.onComplete(ar -> {
+            if (ar.succeeded()) {
+                completableFuture.complete(ar.result());
+            } else {
+                completableFuture.completeExceptionally(ar.cause());
+            }
+        });
+        return completableFuture;
+    }
+
     /**
      * If a {@link Future} succeed with null, map it with the default value.
      *
@@ -61,7 +141,11 @@ public final class FutureUtils {
      * @return the result {@code Future}
      */
     public static <T> Future<T> defaultWith(Future<T> future, T v0) {
-        return future.map(x -> x == null ? v0 : x);
+        if (FallbackCounters.isEnabled()) {
+            FallbackCounters.countDefault("FutureUtils.defaultWith", future);
+        }
+
+        return doDefaultWith(future, v0);
     }
 
     /**
@@ -73,7 +157,11 @@ public final class FutureUtils {
      * @return the result {@code Future}
      */
     public static <T> Future<T> defaultWith(Future<T> future, Supplier<T> supplier) {
-        return future.map(x -> x == null ? supplier.get() : x);
+        if (FallbackCounters.isEnabled()) {
+            FallbackCounters.countDefault("FutureUtils.defaultWith", future);
+        }
+
+        return doDefaultWith(future, supplier);
     }
 
     /**
@@ -86,7 +174,17 @@ public final class FutureUtils {
      * @return the result {@code Future}
      */
     public static <T> Future<T> fallbackWith(Future<T> future, T v0) {
-        return defaultWith(future.otherwise(v0), v0);
+        if (FallbackCounters.isEnabled()) {
+            FallbackCounters.countFallback("FutureUtils.fallbackWith", future);
+        }
+
+        if (Metrics.SPI == null) {
+            return doDefaultWith(future.otherwise(v0), v0);
+        }
+
+        return Metrics.recordFallback(
+                "FutureUtils.fallbackWith", System.nanoTime(), future, doDefaultWith(future.otherwise(v0), v0)
+        );
     }
 
     /**
@@ -113,7 +211,17 @@ public final class FutureUtils {
      * @return the result {@code Future}
      */
     public static <T> Future<T> fallbackWith(Future<T> future, Function<Throwable, T> mapper, Supplier<T> supplier) {
-        return defaultWith(future.otherwise(mapper), supplier);
+        if (FallbackCounters.isEnabled()) {
+            FallbackCounters.countFallback("FutureUtils.fallbackWith", future);
+        }
+
+        if (Metrics.SPI == null) {
+            return doDefaultWith(future.otherwise(mapper), supplier);
+        }
+
+        return Metrics.recordFallback(
+                "FutureUtils.fallbackWith", System.nanoTime(), future, doDefaultWith(future.otherwise(mapper), supplier)
+        );
     }
 
     /**
@@ -124,11 +232,13 @@ public final class FutureUtils {
      * @return succeed {@code Future} for main scenario and failed {@code Future} if a non-checked exception thrown
      */
     public static <R> Future<R> wrap(Supplier<R> supplier) {
-        try {
-            return Future.succeededFuture(supplier.get());
-        } catch (Throwable t) {
-            return Future.failedFuture(t);
+        if (Metrics.SPI == null) {
+            return doWrap(BlockingDetector.timed("FutureUtils.wrap", supplier));
         }
+
+        return Metrics.record(
+                "FutureUtils.wrap", System.nanoTime(), doWrap(BlockingDetector.timed("FutureUtils.wrap", supplier))
+        );
     }
 
     /**
@@ -161,11 +271,21 @@ public final class FutureUtils {
      * thrown
      */
     public static <R> Future<R> joinWrap(Supplier<Future<R>> supplier) {
-        try {
-            return supplier.get();
-        } catch (Throwable t) {
-            return Future.failedFuture(t);
+        if (!Metrics.diagnosing()) {
+            if (Metrics.SPI == null) {
+                return doJoinWrap(supplier);
+            }
+
+            return Metrics.record("FutureUtils.joinWrap", System.nanoTime(), doJoinWrap(supplier));
+        }
+
+        if (Metrics.SPI == null) {
+            return Metrics.assembled("FutureUtils.joinWrap", ContextPropagation.propagate(doJoinWrap(supplier)));
         }
+
+        return Metrics.assembled("FutureUtils.joinWrap", Metrics.record(
+                "FutureUtils.joinWrap", System.nanoTime(), ContextPropagation.propagate(doJoinWrap(supplier))
+        ));
     }
 
     /**
@@ -190,6 +310,209 @@ public final class FutureUtils {
         return joinWrap(() -> function.apply(v));
     }
 
+    /**
+     * Await a {@link Future} in blocking style, by parking the current virtual thread until it completes.
+     * <p>
+     * It is only available on Java 21 or above, and only on a virtual thread, so that the event loop is never
+     * blocked. Calling it on a platform thread (e.g. an event loop or a worker thread) throws an
+     * {@link IllegalStateException}, and calling it before Java 21 throws an {@link UnsupportedOperationException}.
+     *
+     * @param future the {@code Future}
+     * @param <T>    the type parameter of the {@code Future}
+     * @return the result of {@code future} if it succeeds
+     * @throws RuntimeException the failure cause of {@code future} if it is unchecked, or a
+     *                          {@link java.util.concurrent.CompletionException} wrapping the checked cause
+     * @see Awaits#await(Future)
+     */
+    public static <T> T await(Future<T> future) {
+        return Awaits.await(future);
+    }
+
+    /**
+     * Fold the results of {@link Future}s as soon as each of them completes, starting with {@code identity}.
+     * <p>
+     * Unlike folding the {@link CompositeFuture#list()} of {@link CompositeFuture#all(List)}, each result is
+     * accumulated in completion order right after its {@code Future} succeeds, and is not retained afterward, so
+     * {@code accumulator} should not depend on the order. The accumulation is serialized, so a non-thread-safe
+     * accumulator is allowed even if the {@code Future}s complete on different threads.
+     * <p>
+     * The result {@code Future} fails as soon as any original {@code Future} fails or {@code accumulator} throws, and
+     * the results completed afterward are ignored.
+     *
+     * @param futures     the {@code Future}s
+     * @param identity    the initial accumulation
+     * @param accumulator a function that accumulates a result into the accumulation
+     * @param <T>         the type parameter of the {@code Future}s
+     * @param <A>         the type of the accumulation
+     * @return the result {@code Future} of the final accumulation
+     */
+    public static <T, A> Future<A> fold(Iterable<Future<T>> futures, A identity, BiFunction<A, T, A> accumulator) {
+        if (Metrics.SPI == null) {
+            return Metrics.assembled("FutureUtils.fold", doFold(futures, identity, accumulator));
+        }
+
+        return Metrics.assembled("FutureUtils.fold", Metrics.record(
+                "FutureUtils.fold", System.nanoTime(), doFold(futures, identity, accumulator)
+        ));
+    }
+
+    /**
+     * Wait for {@code k} of the {@link Future}s to succeed.
+     * <p>
+     * The result {@code Future} succeeds with the first {@code k} successes as soon as they complete, or fails as
+     * soon as {@code k} successes are no longer possible. It generalizes {@link CompositeFuture#any(List)} (that is
+     * {@code k = 1}) and {@link CompositeFuture#all(List)} (that is {@code k = n}).
+     *
+     * @param k       the quorum size, from 1 to the number of {@code futures}
+     * @param futures the {@code Future}s
+     * @param <T>     the type parameter of the {@code Future}s
+     * @return the result {@code Future}
+     * @throws IllegalArgumentException if {@code k} is out of range
+     * @see Quorum#of(int, List, IntConsumer)
+     */
+    public static <T> Future<Quorum<T>> quorum(int k, List<Future<T>> futures) {
+        return quorum(k, futures, null);
+    }
+
+    /**
+     * Wait for {@code k} of the {@link Future}s to succeed, and cancel the rest once decided.
+     * <p>
+     * It likes {@link #quorum(int, List)}, except that {@code onCancel} is called with the index of each
+     * {@code Future} that is still pending once the result is decided.
+     *
+     * @param k        the quorum size, from 1 to the number of {@code futures}
+     * @param futures  the {@code Future}s
+     * @param onCancel the function called with each index of the pending {@code Future}s
+     * @param <T>      the type parameter of the {@code Future}s
+     * @return the result {@code Future}
+     * @throws IllegalArgumentException if {@code k} is out of range
+     * @see Quorum#of(int, List, IntConsumer)
+     */
+    public static <T> Future<Quorum<T>> quorum(int k, List<Future<T>> futures, IntConsumer onCancel) {
+        if (Metrics.SPI == null) {
+            return Metrics.assembled("FutureUtils.quorum", Quorum.of(k, futures, onCancel));
+        }
+
+        return Metrics.assembled("FutureUtils.quorum", Metrics.record(
+                "FutureUtils.quorum", System.nanoTime(), Quorum.of(k, futures, onCancel)
+        ));
+    }
+
+    /**
+     * Gather the results of the {@link Future}s until all of them complete or {@code deadlineMs} passes, whichever
+     * comes first.
+     * <p>
+     * The result {@code Future} always succeeds with whatever has completed by then, i.e. the results of the
+     * succeeded {@code Future}s, and the indices of the failed and the pending ones. So that a partial answer can be
+     * used in time, e.g. for a fan-out to many shards.
+     *
+     * @param vertx      the {@code Vertx} instance to set the deadline timer
+     * @param futures    the {@code Future}s
+     * @param deadlineMs the deadline in milliseconds from now
+     * @param <T>        the type parameter of the {@code Future}s
+     * @return the result {@code Future}
+     * @throws IllegalArgumentException if {@code deadlineMs} is not positive
+     * @see Gathered#until(Vertx, List, long, IntConsumer)
+     */
+    public static <T> Future<Gathered<T>> gatherUntil(Vertx vertx, List<Future<T>> futures, long deadlineMs) {
+        return gatherUntil(vertx, futures, deadlineMs, null);
+    }
+
+    /**
+     * Gather the results of the {@link Future}s until all of them complete or {@code deadlineMs} passes, and cancel
+     * the stragglers at the deadline.
+     * <p>
+     * It likes {@link #gatherUntil(Vertx, List, long)}, except that {@code onCancel} is called with the index of each
+     * {@code Future} that is still pending at the deadline.
+     *
+     * @param vertx      the {@code Vertx} instance to set the deadline timer
+     * @param futures    the {@code Future}s
+     * @param deadlineMs the deadline in milliseconds from now
+     * @param onCancel   the function called with each index of the pending {@code Future}s
+     * @param <T>        the type parameter of the {@code Future}s
+     * @return the result {@code Future}
+     * @throws IllegalArgumentException if {@code deadlineMs} is not positive
+     * @see Gathered#until(Vertx, List, long, IntConsumer)
+     */
+    public static <T> Future<Gathered<T>> gatherUntil(
+            Vertx vertx, List<Future<T>> futures, long deadlineMs, IntConsumer onCancel
+    ) {
+        if (Metrics.SPI == null) {
+            return Metrics.assembled("FutureUtils.gatherUntil", Gathered.until(vertx, futures, deadlineMs, onCancel));
+        }
+
+        return Metrics.assembled("FutureUtils.gatherUntil", Metrics.record(
+                "FutureUtils.gatherUntil", System.nanoTime(), Gathered.until(vertx, futures, deadlineMs, onCancel)
+        ));
+    }
+
+    /**
+     * Select the {@code k} greatest results of {@link Future}s according to {@code comparator}, as soon as each of
+     * them completes.
+     * <p>
+     * Only a bounded heap of the {@code k} greatest results so far is kept, so the other results are not retained
+     * after their {@code Future}s complete. When all the {@code Future}s succeed, the result {@code Future} succeeds
+     * with the selected results in descending order, that may be fewer than {@code k}. It fails as soon as any
+     * original {@code Future} fails or {@code comparator} throws. The {@code Future}s succeeded with {@code null} are
+     * treated as empty and skipped, so {@code comparator} is never called with {@code null}. To select the smallest
+     * ones, pass a reversed {@code comparator}.
+     *
+     * @param futures    the {@code Future}s
+     * @param k          the max number of the selected results
+     * @param comparator the comparator of the results
+     * @param <T>        the type parameter of the {@code Future}s
+     * @return the result {@code Future} of the selected results
+     * @throws IllegalArgumentException if {@code k} is not positive
+     */
+    public static <T> Future<List<T>> topK(Iterable<Future<T>> futures, int k, Comparator<T> comparator) {
+        if (k < 1) {
+            throw new IllegalArgumentException("k must be positive: " + k);
+        }
+
+        if (Metrics.SPI == null) {
+            return Metrics.assembled("FutureUtils.topK", doTopK(null, futures, k, comparator, 0));
+        }
+
+        return Metrics.assembled("FutureUtils.topK", Metrics.record(
+                "FutureUtils.topK", System.nanoTime(), doTopK(null, futures, k, comparator, 0)
+        ));
+    }
+
+    /**
+     * Select the {@code k} greatest results of {@link Future}s according to {@code comparator}, until all of them
+     * complete or {@code deadlineMs} passes, whichever comes first.
+     * <p>
+     * It likes {@link #topK(Iterable, int, Comparator)}, except that if the deadline passes first, the result
+     * {@code Future} succeeds with the results selected so far, and the results completed afterward are ignored.
+     *
+     * @param vertx      the {@code Vertx} instance to set the deadline timer
+     * @param futures    the {@code Future}s
+     * @param k          the max number of the selected results
+     * @param comparator the comparator of the results
+     * @param deadlineMs the deadline in milliseconds from now
+     * @param <T>        the type parameter of the {@code Future}s
+     * @return the result {@code Future} of the selected results
+     * @throws IllegalArgumentException if {@code k} or {@code deadlineMs} is not positive
+     */
+    public static <T> Future<List<T>> topK(
+            Vertx vertx, Iterable<Future<T>> futures, int k, Comparator<T> comparator, long deadlineMs
+    ) {
+        if (k < 1) {
+            throw new IllegalArgumentException("k must be positive: " + k);
+        }
+        if (deadlineMs < 1) {
+            throw new IllegalArgumentException("deadlineMs must be positive: " + deadlineMs);
+        }
+
+        if (Metrics.SPI == null) {
+            return Metrics.assembled("FutureUtils.topK", doTopK(vertx, futures, k, comparator, deadlineMs));
+        }
+
+        return Metrics.assembled("FutureUtils.topK", Metrics.record(
+                "FutureUtils.topK", System.nanoTime(), doTopK(vertx, futures, k, comparator, deadlineMs)
+        ));
+    }
+
     /**
      * Create a future tuple with two {@link Future}s.
      */
@@ -494,4 +817,221 @@ public final class FutureUtils {
     ) {
         return FutureTuple9.of(future0, future1, future2, future3, future4, future5, future6, future7, future8).join();
     }
+
+    private static <T> Future<T> doDefaultWith(Future<T> future, T v0) {
+        return future.map(x -> x == null ? v0 : x);
+    }
+
+    private static <T> Future<T> doDefaultWith(Future<T> future, Supplier<T> supplier) {
+        return future.map(x -> x == null ? supplier.get() : x);
+    }
+
+    private static <R> Future<R> doWrap(Supplier<R> supplier) {
+        try {
+            return Future.succeededFuture(supplier.get());
+        } catch (Throwable t) {
+            return Future.failedFuture(t);
+        }
+    }
+
+    private static <R> Future<R> doJoinWrap(Supplier<Future<R>> supplier) {
+        try {
+            return supplier.get();
+        } catch (Throwable t) {
+            return Future.failedFuture(t);
+        }
+    }
+
+    private static <T, A> Future<A> doFold(Iterable<Future<T>> futures, A identity, BiFunction<A, T, A> accumulator) {
+        Fold<T, A> fold = new Fold<>(identity, accumulator);
+        for (Future<T> future : futures) {
+            fold.register();
+            future.onComplete(fold::accept);
+        }
+
+        fold.accept(null);
+        return fold.promise.future();
+    }
+
+    private static <T> Future<List<T>> doTopK(
+            Vertx vertx, Iterable<Future<T>> futures, int k, Comparator<T> comparator, long deadlineMs
+    ) {
+        TopK<T> topK = new TopK<>(k, comparator);
+        for (Future<T> future : futures) {
+            topK.register();
+            future.onComplete(topK::accept);
+        }
+
+        topK.accept(null);
+        Future<List<T>> result = topK.promise.future();
+        if (vertx != null && !result.isComplete()) {
+            long timerId = vertx.setTimer(deadlineMs, _id -> topK.expire());
+            result.onComplete(_ar -> vertx.cancelTimer(timerId));
+        }
+
+        return result;
+    }
+
+    private static <T> void completeWith(Promise<T> promise, T v, Throwable t) {
+        if (t == null) {
+            promise.complete(v);
+        } else {
+            promise.fail(unwrap(t));
+        }
+    }
+
+    private static Throwable unwrap(Throwable t) {
+        return t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+    }
+
+    private static <T> CompletableFuture<T> failedStage(Throwable cause) {
+        CompletableFuture<T> completableFuture = new CompletableFuture<>();
+        completableFuture.completeExceptionally(cause);
+        return completableFuture;
+    }
+
+    private static final class Fold<T, A> {
+        private final Promise<A> promise = Promise.promise();
+        private final BiFunction<A, T, A> accumulator;
+        private A accumulation;
+        // one more for the registration, so that it's not completed before all the futures registered
+        private int pending = 1;
+        private boolean decided = false;
+
+        private Fold(A identity, BiFunction<A, T, A> accumulator) {
+            this.accumulation = identity;
+            this.accumulator = accumulator;
+        }
+
+        private synchronized void register() {
+            pending++;
+        }
+
+        private void accept(AsyncResult<T> ar) {
+            Throwable cause;
+            A result;
+            synchronized (this) {
+                if (decided) {
+                    return;
+                }
+
+                cause = accumulate(ar);
+                if (cause == null && --pending > 0) {
+                    return;
+                }
+
+                decided = true;
+                result = accumulation;
+                accumulation = null;
+            }
+
+            if (cause != null) {
+                promise.fail(cause);
+            } else {
+                promise.complete(result);
+            }
+        }
+
+        private Throwable accumulate(AsyncResult<T> ar) {
+            try {
+                if (ar != null && ar.failed()) {
+                    return ar.cause();
+                }
+
+                if (ar != null) {
+                    accumulation = accumulator.apply(accumulation, ar.result());
+                }
+                return null;
+            } catch (Throwable t) {
+                return t;
+            }
+        }
+    }
+
+    private static final class TopK<T> {
+        private final Promise<List<T>> promise = Promise.promise();
+        private final int k;
+        private final Comparator<T> comparator;
+        // a min-heap of the k greatest results so far, its head is the one to be replaced first
+        private PriorityQueue<T> heap;
+        // one more for the registration, so that it's not completed before all the futures registered
+        private int pending = 1;
+        private boolean decided = false;
+
+        private TopK(int k, Comparator<T> comparator) {
+            this.k = k;
+            this.comparator = comparator;
+            this.heap = new PriorityQueue<>(comparator);
+        }
+
+        private synchronized void register() {
+            pending++;
+        }
+
+        private void accept(AsyncResult<T> ar) {
+            Throwable cause = null;
+            List<T> selected = null;
+            synchronized (this) {
+                if (decided) {
+                    return;
+                }
+
+                try {
+                    if (ar != null && ar.failed()) {
+                        throw ar.cause();
+                    }
+
+                    if (ar != null && ar.result() != null) {
+                        offer(ar.result());
+                    }
+                } catch (Throwable t) {
+                    decided = true;
+                    heap = null;
+                    cause = t;
+                }
+
+                if (cause == null) {
+                    if (--pending > 0) {
+                        return;
+                    }
+                    selected = decide();
+                }
+            }
+
+            if (cause != null) {
+                promise.fail(cause);
+            } else {
+                promise.complete(selected);
+            }
+        }
+
+        private void expire() {
+            List<T> selected;
+            synchronized (this) {
+                if (decided) {
+                    return;
+                }
+                selected = decide();
+            }
+
+            promise.complete(selected);
+        }
+
+        private void offer(T v) {
+            if (heap.size() < k) {
+                heap.offer(v);
+            } else if (comparator.compare(v, heap.peek()) > 0) {
+                heap.poll();
+                heap.offer(v);
+            }
+        }
+
+        private List<T> decide() {
+            decided = true;
+            List<T> selected = new ArrayList<>(heap);
+            selected.sort(comparator.reversed());
+            heap = null;
+            return selected;
+        }
+    }
 }
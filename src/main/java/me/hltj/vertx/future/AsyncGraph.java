@@ -0,0 +1,403 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.future;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import me.hltj.vertx.function.*;
+import me.hltj.vertx.metrics.BlockingDetector;
+import me.hltj.vertx.metrics.Metrics;
+
+import java.util.*;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static me.hltj.vertx.future.InternalUtil.evaluate;
+
+/**
+ * A directed acyclic graph of named asynchronous steps, where each step is a function of the results of its
+ * dependencies that returns a {@link Future}.
+ * <p>
+ * It grows the model of {@link CompositeFutureTuple2#joinApplift(BiFunction)} into arbitrary graphs: once
+ * {@link #run()} is called, every step whose dependencies have all succeeded is started at once, up to the max
+ * parallelism, so that independent steps overlap instead of running one after another. e.g. :
+ * <pre>
+ *     AsyncGraph graph = AsyncGraph.create(4);
+ *     AsyncGraph.Step&lt;User&gt; user = graph.step("user", () -&gt; loadUser(userId));
+ *     AsyncGraph.Step&lt;List&lt;Order&gt;&gt; orders = graph.step("orders", user, u -&gt; loadOrders(u));
+ *     AsyncGraph.Step&lt;Profile&gt; profile = graph.step("profile", user, u -&gt; loadProfile(u));
+ *     AsyncGraph.Step&lt;Page&gt; page = graph.step("page", orders, profile, (o, p) -&gt; render(o, p));
+ *     graph.run().compose(_v -&gt; page.future());
+ * </pre>
+ * The dependencies of a step must be declared in the same graph before it, so there is no cycle by construction.
+ * <p>
+ * An instance is for one run only, and is thread-safe.
+ */
+public final class AsyncGraph {
+    private final int maxParallelism;
+    private final Map<String, Step<?>> steps = new LinkedHashMap<>();
+    private final Deque<Step<?>> ready = new ArrayDeque<>();
+    private final Promise<Void> promise = Promise.promise();
+    private boolean started = false;
+    private boolean draining = false;
+    private int running = 0;
+    private int remaining = 0;
+
+    private AsyncGraph(int maxParallelism) {
+        this.maxParallelism = maxParallelism;
+    }
+
+    /**
+     * Create an {@link AsyncGraph} without limit of parallelism.
+     *
+     * @return the {@code AsyncGraph}
+     */
+    public static AsyncGraph create() {
+        return new AsyncGraph(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Create an {@link AsyncGraph} that runs at most {@code maxParallelism} steps at the same time, the ready steps
+     * beyond it are started in declaration order as the running ones complete.
+     *
+     * @param maxParallelism the max number of running steps
+     * @return the {@code AsyncGraph}
+     * @throws IllegalArgumentException if {@code maxParallelism} is not positive
+     */
+    public static AsyncGraph create(int maxParallelism) {
+        if (maxParallelism < 1) {
+            throw new IllegalArgumentException("maxParallelism must be positive: " + maxParallelism);
+        }
+
+        return new AsyncGraph(maxParallelism);
+    }
+
+    /**
+     * Declare a step without dependency.
+     *
+     * @param name     the unique name of the step
+     * @param supplier the function that starts the step
+     * @param <R>      the result type of the step
+     * @return the declared step
+     */
+    public <R> Step<R> step(String name, Supplier<Future<R>> supplier) {
+        return addStep(name, supplier);
+    }
+
+    /**
+     * Declare a step that depends on another one.
+     *
+     * @param name     the unique name of the step
+     * @param dep0     the dependency
+     * @param function the function that starts the step with the result of {@code dep0}
+     * @param <T0>     the result type of {@code dep0}
+     * @param <R>      the result type of the step
+     * @return the declared step
+     */
+    public <T0, R> Step<R> step(String name, Step<T0> dep0, Function<T0, Future<R>> function) {
+        return addStep(name, () -> function.apply(dep0.value), dep0);
+    }
+
+    /**
+     * Declare a step that depends on two other ones.
+     * <p>
+     * The step is started once both dependencies succeed. If any dependency fails, the step is not started and
+     * fails with the same cause.
+     *
+     * @param name      the unique name of the step
+     * @param dep0      the 1st dependency
+     * @param dep1      the 2nd dependency
+     * @param function2 the function that starts the step with the results of {@code dep0} and {@code dep1}
+     * @param <T0>      the result type of {@code dep0}
+     * @param <T1>      the result type of {@code dep1}
+     * @param <R>       the result type of the step
+     * @return the declared step
+     * @throws IllegalArgumentException if the name is duplicated, or a dependency is not declared in this graph
+     * @throws IllegalStateException    if the graph is already started
+     */
+    public <T0, T1, R> Step<R> step(
+            String name, Step<T0> dep0, Step<T1> dep1, BiFunction<T0, T1, Future<R>> function2
+    ) {
+        return addStep(name, () -> function2.apply(dep0.value, dep1.value), dep0, dep1);
+    }
+
+    /**
+     * It likes {@link #step(String, Step, Step, BiFunction)} but with 3 dependencies.
+     */
+    public <T0, T1, T2, R> Step<R> step(
+            String name, Step<T0> dep0, Step<T1> dep1, Step<T2> dep2, Function3<T0, T1, T2, Future<R>> function3
+    ) {
+        return addStep(name, () -> function3.apply(dep0.value, dep1.value, dep2.value), dep0, dep1, dep2);
+    }
+
+    /**
+     * It likes {@link #step(String, Step, Step, BiFunction)} but with 4 dependencies.
+     */
+    public <T0, T1, T2, T3, R> Step<R> step(
+            String name, Step<T0> dep0, Step<T1> dep1, Step<T2> dep2, Step<T3> dep3,
+            Function4<T0, T1, T2, T3, Future<R>> function4
+    ) {
+        return addStep(
+                name, () -> function4.apply(dep0.value, dep1.value, dep2.value, dep3.value), dep0, dep1, dep2, dep3
+        );
+    }
+
+    /**
+     * It likes {@link #step(String, Step, Step, BiFunction)} but with 5 dependencies.
+     */
+    public <T0, T1, T2, T3, T4, R> Step<R> step(
+            String name, Step<T0> dep0, Step<T1> dep1, Step<T2> dep2, Step<T3> dep3, Step<T4> dep4,
+            Function5<T0, T1, T2, T3, T4, Future<R>> function5
+    ) {
+        return addStep(name, () -> function5.apply(
+                dep0.value, dep1.value, dep2.value, dep3.value, dep4.value
+        ), dep0, dep1, dep2, dep3, dep4);
+    }
+
+    /**
+     * It likes {@link #step(String, Step, Step, BiFunction)} but with 6 dependencies.
+     */
+    public <T0, T1, T2, T3, T4, T5, R> Step<R> step(
+            String name, Step<T0> dep0, Step<T1> dep1, Step<T2> dep2,
+            Step<T3> dep3, Step<T4> dep4, Step<T5> dep5,
+            Function6<T0, T1, T2, T3, T4, T5, Future<R>> function6
+    ) {
+        return addStep(name, () -> function6.apply(
+                dep0.value, dep1.value, dep2.value, dep3.value, dep4.value, dep5.value
+        ), dep0, dep1, dep2, dep3, dep4, dep5);
+    }
+
+    /**
+     * It likes {@link #step(String, Step, Step, BiFunction)} but with 7 dependencies.
+     */
+    public <T0, T1, T2, T3, T4, T5, T6, R> Step<R> step(
+            String name, Step<T0> dep0, Step<T1> dep1, Step<T2> dep2, Step<T3> dep3,
+            Step<T4> dep4, Step<T5> dep5, Step<T6> dep6,
+            Function7<T0, T1, T2, T3, T4, T5, T6, Future<R>> function7
+    ) {
+        return addStep(name, () -> function7.apply(
+                dep0.value, dep1.value, dep2.value, dep3.value, dep4.value, dep5.value, dep6.value
+        ), dep0, dep1, dep2, dep3, dep4, dep5, dep6);
+    }
+
+    /**
+     * It likes {@link #step(String, Step, Step, BiFunction)} but with 8 dependencies.
+     */
+    public <T0, T1, T2, T3, T4, T5, T6, T7, R> Step<R> step(
+            String name, Step<T0> dep0, Step<T1> dep1, Step<T2> dep2, Step<T3> dep3,
+            Step<T4> dep4, Step<T5> dep5, Step<T6> dep6, Step<T7> dep7,
+            Function8<T0, T1, T2, T3, T4, T5, T6, T7, Future<R>> function8
+    ) {
+        return addStep(name, () -> function8.apply(
+                dep0.value, dep1.value, dep2.value, dep3.value, dep4.value, dep5.value, dep6.value, dep7.value
+        ), dep0, dep1, dep2, dep3, dep4, dep5, dep6, dep7);
+    }
+
+    /**
+     * It likes {@link #step(String, Step, Step, BiFunction)} but with 9 dependencies.
+     */
+    public <T0, T1, T2, T3, T4, T5, T6, T7, T8, R> Step<R> step(
+            String name, Step<T0> dep0, Step<T1> dep1, Step<T2> dep2, Step<T3> dep3, Step<T4> dep4,
+            Step<T5> dep5, Step<T6> dep6, Step<T7> dep7, Step<T8> dep8,
+            Function9<T0, T1, T2, T3, T4, T5, T6, T7, T8, Future<R>> function9
+    ) {
+        return addStep(name, () -> function9.apply(
+                dep0.value, dep1.value, dep2.value, dep3.value, dep4.value, dep5.value, dep6.value, dep7.value,
+                dep8.value
+        ), dep0, dep1, dep2, dep3, dep4, dep5, dep6, dep7, dep8);
+    }
+
+    /**
+     * Start all the steps, and return a {@link Future} that succeeds when all of them succeed, or fails as soon as
+     * any of them fails. The steps that don't depend on the failed one keep running, their results are available by
+     * {@link Step#future()}.
+     *
+     * @return the {@code Future} of the whole graph
+     * @throws IllegalStateException if the graph is already started
+     */
+    public Future<Void> run() {
+        long startNanos = System.nanoTime();
+        synchronized (this) {
+            if (started) {
+                throw new IllegalStateException("the graph is already started");
+            }
+
+            started = true;
+            remaining = steps.size();
+            for (Step<?> step : steps.values()) {
+                step.wrapBody();
+                if (step.pending == 0) {
+                    ready.add(step);
+                }
+            }
+        }
+
+        if (steps.isEmpty()) {
+            promise.complete();
+        }
+        drain();
+
+        if (Metrics.SPI == null) {
+            return Metrics.assembled("AsyncGraph.run", promise.future());
+        }
+
+        return Metrics.assembled("AsyncGraph.run", Metrics.record("AsyncGraph.run", startNanos, promise.future()));
+    }
+
+    private synchronized <R> Step<R> addStep(String name, Supplier<Future<R>> body, Step<?>... deps) {
+        if (started) {
+            throw new IllegalStateException("the graph is already started");
+        }
+        if (steps.containsKey(name)) {
+            throw new IllegalArgumentException("duplicate step: " + name);
+        }
+
+        Step<R> step = new Step<>(this, name, body, deps.length);
+        for (Step<?> dep : deps) {
+            if (dep.graph != this) {
+                throw new IllegalArgumentException("step " + dep.name + " is not declared in this graph");
+            }
+            dep.dependents.add(step);
+        }
+
+        steps.put(name, step);
+        return step;
+    }
+
+    private void drain() {
+        synchronized (this) {
+            if (draining) {
+                return;
+            }
+            draining = true;
+        }
+
+        while (true) {
+            Step<?> step;
+            synchronized (this) {
+                if (ready.isEmpty() || running >= maxParallelism) {
+                    draining = false;
+                    return;
+                }
+
+                step = ready.poll();
+                running++;
+            }
+
+            step.start();
+        }
+    }
+
+    private <T> void onComplete(Step<T> step, AsyncResult<T> ar) {
+        List<Step<?>> skipped = new ArrayList<>();
+        boolean allSucceeded;
+        synchronized (this) {
+            running--;
+            step.done = true;
+            remaining--;
+            if (ar.succeeded()) {
+                step.value = ar.result();
+                for (Step<?> dependent : step.dependents) {
+                    if (!dependent.done && --dependent.pending == 0) {
+                        ready.add(dependent);
+                    }
+                }
+            } else {
+                skip(step, skipped);
+            }
+            allSucceeded = remaining == 0 && !promise.future().isComplete();
+        }
+
+        // complete the futures outside the lock, as their handlers may run arbitrary code
+        step.promise.handle(ar);
+        if (ar.failed()) {
+            skipped.forEach(dependent -> dependent.promise.tryFail(ar.cause()));
+            promise.tryFail(ar.cause());
+        } else if (allSucceeded) {
+            promise.tryComplete();
+        }
+
+        drain();
+    }
+
+    private void skip(Step<?> step, List<Step<?>> skipped) {
+        for (Step<?> dependent : step.dependents) {
+            if (!dependent.done) {
+                dependent.done = true;
+                remaining--;
+                skipped.add(dependent);
+                skip(dependent, skipped);
+            }
+        }
+    }
+
+    /**
+     * A named step of an {@link AsyncGraph}.
+     *
+     * @param <T> the result type of the step
+     */
+    public static final class Step<T> {
+        private final AsyncGraph graph;
+        private final String name;
+        private final Promise<T> promise = Promise.promise();
+        private final List<Step<?>> dependents = new ArrayList<>();
+        private Supplier<Future<T>> body;
+        private int pending;
+        private boolean done = false;
+        private T value;
+
+        private Step(AsyncGraph graph, String name, Supplier<Future<T>> body, int pending) {
+            this.graph = graph;
+            this.name = name;
+            this.body = body;
+            this.pending = pending;
+        }
+
+        /**
+         * Return the name of the step.
+         */
+        public String name() {
+            return name;
+        }
+
+        /**
+         * Return the result {@link Future} of the step, it's pending until the step completes, or fails with the
+         * failure cause of a dependency if the step is skipped.
+         */
+        public Future<T> future() {
+            return promise.future();
+        }
+
+        private void wrapBody() {
+            if (Metrics.diagnosing()) {
+                body = ContextPropagation.wrapSupplier(BlockingDetector.timed("AsyncGraph.step", body));
+            }
+        }
+
+        private void start() {
+            evaluate(body).onComplete(ar -> graph.onComplete(this, ar));
+        }
+    }
+}
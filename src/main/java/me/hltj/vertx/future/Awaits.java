@@ -0,0 +1,49 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.future;
+
+import io.vertx.core.Future;
+
+/**
+ * Await {@link Future}s in blocking style on virtual threads.
+ * <p>
+ * This version is for Java 8 to 20, where virtual threads are not available, so awaiting is not supported. It is
+ * replaced by the version for Java 21 or above in the multi-release part of the jar.
+ */
+public final class Awaits {
+
+    private Awaits() {
+    }
+
+    /**
+     * Park the current virtual thread until {@code future} completes, it is not supported before Java 21.
+     *
+     * @param future the {@code Future}
+     * @param <T>    the type parameter of the {@code Future}
+     * @return never returns
+     * @throws UnsupportedOperationException always
+     */
+    public static <T> T await(Future<T> future) {
+        throw new UnsupportedOperationException("await requires virtual threads of Java 21 or above");
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.future;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static me.hltj.vertx.FutureUtils.joinWrap;
+
+/**
+ * A loader that batches individual key lookups into a single batch call.
+ * <p>
+ * Keys requested by {@link #load(Object)} during one event-loop tick are collected and dispatched as a single
+ * {@code batchFunction} call at the end of the tick, or as soon as {@code maxBatchSize} distinct keys have been
+ * collected. Duplicate keys within a batch are collapsed, so they share the same result {@link Future}. e.g. :
+ *
+ * <pre>
+ *     BatchLoader&lt;Long, User&gt; loader = BatchLoader.of(vertx, ids -&gt; userDao.findByIds(ids));
+ *     Future&lt;User&gt; user0 = loader.load(1L);
+ *     Future&lt;User&gt; user1 = loader.load(2L);
+ *     Future&lt;User&gt; user2 = loader.load(1L); // the same future as user0
+ *     // userDao.findByIds([1, 2]) will be called once at the end of the current tick
+ * </pre>
+ * <p>
+ * A loader is bound to the Vert.x {@link Context} where it is created, and it is not thread-safe,
+ * so it should be used on that context only.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public final class BatchLoader<K, V> {
+    private final Context context;
+    private final int maxBatchSize;
+    private final Function<List<K>, Future<Map<K, V>>> batchFunction;
+    private Map<K, Promise<V>> pending = new LinkedHashMap<>();
+    private boolean scheduled = false;
+
+    private BatchLoader(Context context, int maxBatchSize, Function<List<K>, Future<Map<K, V>>> batchFunction) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be positive: " + maxBatchSize);
+        }
+
+        this.context = context;
+        this.maxBatchSize = maxBatchSize;
+        this.batchFunction = batchFunction;
+    }
+
+    /**
+     * Create a {@link BatchLoader} that dispatches a batch per event-loop tick, without batch size limit.
+     *
+     * @param vertx         the Vert.x instance
+     * @param batchFunction the batch call that maps the keys to their values
+     * @param <K>           the type of the keys
+     * @param <V>           the type of the values
+     * @return the {@code BatchLoader}
+     */
+    public static <K, V> BatchLoader<K, V> of(Vertx vertx, Function<List<K>, Future<Map<K, V>>> batchFunction) {
+        return of(vertx, Integer.MAX_VALUE, batchFunction);
+    }
+
+    /**
+     * Create a {@link BatchLoader} that dispatches a batch per event-loop tick or per {@code maxBatchSize} keys,
+     * whichever comes first.
+     *
+     * @param vertx         the Vert.x instance
+     * @param maxBatchSize  the max count of distinct keys in a batch
+     * @param batchFunction the batch call that maps the keys to their values
+     * @param <K>           the type of the keys
+     * @param <V>           the type of the values
+     * @return the {@code BatchLoader}
+     */
+    public static <K, V> BatchLoader<K, V> of(
+            Vertx vertx, int maxBatchSize, Function<List<K>, Future<Map<K, V>>> batchFunction
+    ) {
+        return new BatchLoader<>(vertx.getOrCreateContext(), maxBatchSize, batchFunction);
+    }
+
+    /**
+     * Load a value by its key.
+     * <p>
+     * The returned future succeeds with the value mapped to the key in the batch result, or with {@code null} if the
+     * batch result doesn't contain the key. If the batch call fails or throws a non-checked exception, the futures of
+     * all keys in the batch will be failed with that cause.
+     *
+     * @param key the key
+     * @return the {@code Future} of the value
+     */
+    public Future<V> load(K key) {
+        Promise<V> promise = pending.get(key);
+        if (promise != null) {
+            return promise.future();
+        }
+
+        promise = Promise.promise();
+        pending.put(key, promise);
+
+        if (pending.size() >= maxBatchSize) {
+            dispatch();
+        } else if (!scheduled) {
+            scheduled = true;
+            context.runOnContext(_v -> {
+                scheduled = false;
+                dispatch();
+            });
+        }
+
+        return promise.future();
+    }
+
+    /**
+     * Dispatch the keys collected so far immediately, without waiting for the end of the current tick.
+     */
+    public void dispatch() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<K, Promise<V>> batch = pending;
+        pending = new LinkedHashMap<>();
+
+        joinWrap(new ArrayList<>(batch.keySet()), batchFunction).onComplete(ar -> {
+            if (ar.succeeded()) {
+                Map<K, V> values = ar.result();
+                batch.forEach((key, promise) -> promise.complete(values == null ? null : values.get(key)));
+            } else {
+                batch.values().forEach(promise -> promise.fail(ar.cause()));
+            }
+        });
+    }
+}
@@ -22,18 +22,21 @@
  */
 package me.hltj.vertx.future;
 
+import io.vertx.core.AsyncResult;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
 import lombok.ToString;
 import me.hltj.vertx.function.Consumer3;
 import me.hltj.vertx.function.Function3;
+import me.hltj.vertx.metrics.FutureMetrics;
 
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
-import static me.hltj.vertx.FutureUtils.joinWrap;
-
 /**
  * The composite {@link Future} tuple warps a {@link CompositeFuture} and a {@link FutureTuple2}.
  * <p>
@@ -72,6 +75,105 @@ final public class CompositeFutureTuple2<T0, T1> extends CompositeFutureWrapper
         return tuple2;
     }
 
+    /**
+     * Await the composite {@link Future} in blocking style, by parking the current virtual thread until it completes,
+     * and return the original {@link FutureTuple2}, whose {@code Future}s are all completed on success.
+     * <p>
+     * It is only available on Java 21 or above, and only on a virtual thread, as {@link Awaits#await(Future)}.
+     *
+     * @return the original {@code FutureTuple2}
+     * @throws RuntimeException the failure cause of the composite {@code Future} if it is unchecked, or a
+     *                          {@link java.util.concurrent.CompletionException} wrapping the checked cause
+     */
+    public FutureTuple2<T0, T1> await() {
+        Awaits.await(composite);
+        return tuple2;
+    }
+
+    /**
+     * Turn on the slot timing mode, that timestamps the completion of each original {@link Future} and records which
+     * one completes last (also known as the critical path).
+     * <p>
+     * The latencies are measured from this call, and can be read by {@link #slotLatencyNanos(int)} and
+     * {@link #criticalSlot()}. If a {@link FutureMetrics} SPI is registered, the latency of each slot is recorded by
+     * {@link FutureMetrics#recordSlot(String, int, long)}, and the critical slot is recorded by
+     * {@link FutureMetrics#recordCriticalSlot(String, int, long)}, both with the {@code label}.
+     * <p>
+     * Calling it more than once has no further effect.
+     *
+     * @param label the label used for recording
+     * @return this {@code CompositeFutureTuple2}
+     */
+    public CompositeFutureTuple2<T0, T1> timeSlots(String label) {
+        trackSlots(label, tuple2.get_0(), tuple2.get_1());
+        return this;
+    }
+
+    /**
+     * Return a {@link Future} of the first succeeded one of the original {@link Future}s, with its index and result
+     * recorded at the moment it completes, so that there is no need to check each slot afterward. The result
+     * {@code Future} fails with the failure cause of the last one if all the original {@code Future}s failed.
+     * <p>
+     * The winner is recorded once, from the first call of this method on, and every call returns the same
+     * {@code Future}, so it should be called right after building this {@code CompositeFutureTuple2} to keep the
+     * actual completion order. If it is called after some original {@code Future}s have completed, the one with the
+     * lowest index among them wins, as their completion order is no longer known.
+     * <p>
+     * The type parameter {@code T} of the result is unchecked, likes {@link CompositeFuture#resultAt(int)}, so it
+     * should be a common super type of all the slots.
+     *
+     * @param <T> the type of the result of the winner
+     * @return the {@code Future} of the winner
+     */
+    public <T> Future<Winner<T>> firstSucceeded() {
+        return firstSucceeded(tuple2.get_0(), tuple2.get_1());
+    }
+
+    /**
+     * Register a handler to the original {@link Future} of slot {@code index}, that is called as soon as the slot
+     * completes, without waiting for the other slots as {@link #applift(BiFunction)} does, e.g. to stream a
+     * partial response for each slot.
+     * <p>
+     * The type parameter {@code T} of the handler is unchecked, likes {@link CompositeFuture#resultAt(int)}, prefer
+     * the typed {@link #on0(Handler)} and {@link #on1(Handler)} if the index is known at compile time.
+     *
+     * @param index   the index of the slot
+     * @param handler the handler
+     * @param <T>     the type parameter of the slot
+     * @return this {@code CompositeFutureTuple2}
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public <T> CompositeFutureTuple2<T0, T1> onSlot(int index, Handler<AsyncResult<T>> handler) {
+        onSlot(index, handler, tuple2.get_0(), tuple2.get_1());
+        return this;
+    }
+
+    /**
+     * Register a handler to the 1st original {@link Future}, that is called as soon as it completes, without
+     * waiting for the other slots.
+     *
+     * @param handler the handler
+     * @return this {@code CompositeFutureTuple2}
+     * @see #onSlot(int, Handler)
+     */
+    public CompositeFutureTuple2<T0, T1> on0(Handler<AsyncResult<T0>> handler) {
+        tuple2.get_0().onComplete(ContextPropagation.wrapHandler(handler));
+        return this;
+    }
+
+    /**
+     * Register a handler to the 2nd original {@link Future}, that is called as soon as it completes, without
+     * waiting for the other slots.
+     *
+     * @param handler the handler
+     * @return this {@code CompositeFutureTuple2}
+     * @see #onSlot(int, Handler)
+     */
+    public CompositeFutureTuple2<T0, T1> on1(Handler<AsyncResult<T1>> handler) {
+        tuple2.get_1().onComplete(ContextPropagation.wrapHandler(handler));
+        return this;
+    }
+
     /**
      * Run side-effect code likes {@link CompositeFutureWrapper#use(Consumer)}, but the {@code consumer3} takes the
      * original two {@link Future}s as additional parameters.
@@ -156,7 +258,7 @@ final public class CompositeFutureTuple2<T0, T1> extends CompositeFutureWrapper
      */
     public <R> Future<R> joinThrough(BiFunction<Future<T0>, Future<T1>, Future<R>> function2) {
         Supplier<Future<R>> supplier = () -> function2.apply(tuple2.get_0(), tuple2.get_1());
-        return composite.compose(_x -> joinWrap(supplier), _t -> joinWrap(supplier));
+        return compositeJoinThrough("CompositeFutureTuple2.joinThrough", supplier);
     }
 
     /**
@@ -185,7 +287,39 @@ final public class CompositeFutureTuple2<T0, T1> extends CompositeFutureWrapper
      * @return the result {@code Future}
      */
     public <R> Future<R> applift(BiFunction<T0, T1, R> function2) {
-        return composite.map(future -> function2.apply(composite.resultAt(0), composite.resultAt(1)));
+        return compositeMap("CompositeFutureTuple2.applift", future ->
+                function2.apply(composite.resultAt(0), composite.resultAt(1))
+        );
+    }
+
+    /**
+     * Alias for {@link CompositeFutureTuple2#applift(WorkerExecutor, BiFunction)}.
+     */
+    public <R> Future<R> mapTyped(WorkerExecutor executor, BiFunction<T0, T1, R> function2) {
+        return applift(executor, function2);
+    }
+
+    /**
+     * Apply a function that accept both results of the original {@link Future}s on success on a worker pool, and
+     * return a {@link Future}.
+     * <p>
+     * It behaves as {@link #applift(BiFunction)}, except that the function runs on a worker thread of
+     * {@code executor} through {@link WorkerExecutor#executeBlocking(Handler, boolean, Handler)} unordered, so that
+     * a CPU-heavy function doesn't block the event loop. The function is dispatched from the context where this method
+     * is called, so the returned {@code Future} completes on that context even if the original {@code Future}s
+     * complete elsewhere. If this method is called outside of any context, the function is dispatched from where the
+     * composite future completes.
+     *
+     * @param executor  the worker executor, e.g. created by {@link Vertx#createSharedWorkerExecutor(String)}
+     * @param function2 the function
+     * @param <R>       the result type of {@code function2}
+     * @return the result {@code Future}
+     */
+    public <R> Future<R> applift(WorkerExecutor executor, BiFunction<T0, T1, R> function2) {
+        String operation = "CompositeFutureTuple2.applift(WorkerExecutor)";
+        return compositeMapOnWorker(operation, executor, future ->
+                function2.apply(composite.resultAt(0), composite.resultAt(1))
+        );
     }
 
     /**
@@ -214,6 +348,8 @@ final public class CompositeFutureTuple2<T0, T1> extends CompositeFutureWrapper
      * @return the result {@code Future}
      */
     public <R> Future<R> joinApplift(BiFunction<T0, T1, Future<R>> function2) {
-        return composite.flatMap(future -> function2.apply(composite.resultAt(0), composite.resultAt(1)));
+        return compositeFlatMap("CompositeFutureTuple2.joinApplift", future ->
+                function2.apply(composite.resultAt(0), composite.resultAt(1))
+        );
     }
 }
@@ -22,8 +22,11 @@
  */
 package me.hltj.vertx.future;
 
+import io.vertx.core.AsyncResult;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.WorkerExecutor;
 import lombok.ToString;
 import me.hltj.vertx.function.Consumer3;
 import me.hltj.vertx.function.Consumer4;
@@ -34,8 +37,6 @@ import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
-import static me.hltj.vertx.FutureUtils.joinWrap;
-
 /**
  * The composite {@link Future} tuple warps a {@link CompositeFuture} and a {@link FutureTuple3}.
  * <p>
@@ -78,6 +79,63 @@ final public class CompositeFutureTuple3<T0, T1, T2> extends CompositeFutureWrap
         return tuple3;
     }
 
+    /**
+     * It likes {@link CompositeFutureTuple2#await()} but with 3-arity.
+     */
+    public FutureTuple3<T0, T1, T2> await() {
+        Awaits.await(composite);
+        return tuple3;
+    }
+
+    /**
+     * Turn on the slot timing mode.
+     * <p>
+     * It likes {@link CompositeFutureTuple2#timeSlots(String)} but with 3-arity.
+     */
+    public CompositeFutureTuple3<T0, T1, T2> timeSlots(String label) {
+        trackSlots(label, tuple3.get_0(), tuple3.get_1(), tuple3.get_2());
+        return this;
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#firstSucceeded()} but with 3-arity.
+     */
+    public <T> Future<Winner<T>> firstSucceeded() {
+        return firstSucceeded(tuple3.get_0(), tuple3.get_1(), tuple3.get_2());
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#onSlot(int, Handler)} but with 3-arity.
+     */
+    public <T> CompositeFutureTuple3<T0, T1, T2> onSlot(int index, Handler<AsyncResult<T>> handler) {
+        onSlot(index, handler, tuple3.get_0(), tuple3.get_1(), tuple3.get_2());
+        return this;
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#on0(Handler)} but for the 1st slot with 3-arity.
+     */
+    public CompositeFutureTuple3<T0, T1, T2> on0(Handler<AsyncResult<T0>> handler) {
+        tuple3.get_0().onComplete(ContextPropagation.wrapHandler(handler));
+        return this;
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#on0(Handler)} but for the 2nd slot with 3-arity.
+     */
+    public CompositeFutureTuple3<T0, T1, T2> on1(Handler<AsyncResult<T1>> handler) {
+        tuple3.get_1().onComplete(ContextPropagation.wrapHandler(handler));
+        return this;
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#on0(Handler)} but for the 3rd slot with 3-arity.
+     */
+    public CompositeFutureTuple3<T0, T1, T2> on2(Handler<AsyncResult<T2>> handler) {
+        tuple3.get_2().onComplete(ContextPropagation.wrapHandler(handler));
+        return this;
+    }
+
     /**
      * Run side-effect code likes {@link CompositeFutureWrapper#use(Consumer)}, but the {@code consumer4} takes the
      * original 3 {@link Future}s as additional parameters.
@@ -129,7 +187,7 @@ final public class CompositeFutureTuple3<T0, T1, T2> extends CompositeFutureWrap
      */
     public <R> Future<R> joinThrough(Function3<Future<T0>, Future<T1>, Future<T2>, Future<R>> function3) {
         Supplier<Future<R>> supplier = () -> function3.apply(tuple3.get_0(), tuple3.get_1(), tuple3.get_2());
-        return composite.compose(_x -> joinWrap(supplier), _t -> joinWrap(supplier));
+        return compositeJoinThrough("CompositeFutureTuple3.joinThrough", supplier);
     }
 
     /**
@@ -146,7 +204,27 @@ final public class CompositeFutureTuple3<T0, T1, T2> extends CompositeFutureWrap
      * It likes {@link CompositeFutureTuple2#applift(BiFunction)} but with 3-arity.
      */
     public <R> Future<R> applift(Function3<T0, T1, T2, R> function3) {
-        return composite.map(future -> function3.apply(
+        return compositeMap("CompositeFutureTuple3.applift", future -> function3.apply(
+                composite.resultAt(0), composite.resultAt(1), composite.resultAt(2)
+        ));
+    }
+
+    /**
+     * Alias for {@link CompositeFutureTuple3#applift(WorkerExecutor, Function3)}.
+     */
+    public <R> Future<R> mapTyped(WorkerExecutor executor, Function3<T0, T1, T2, R> function3) {
+        return applift(executor, function3);
+    }
+
+    /**
+     * Apply a function that accept all results of the original {@link Future}s on success on a worker pool, and
+     * return a {@link Future}.
+     * <p>
+     * It likes {@link CompositeFutureTuple2#applift(WorkerExecutor, BiFunction)} but with 3-arity.
+     */
+    public <R> Future<R> applift(WorkerExecutor executor, Function3<T0, T1, T2, R> function3) {
+        String operation = "CompositeFutureTuple3.applift(WorkerExecutor)";
+        return compositeMapOnWorker(operation, executor, future -> function3.apply(
                 composite.resultAt(0), composite.resultAt(1), composite.resultAt(2)
         ));
     }
@@ -165,7 +243,7 @@ final public class CompositeFutureTuple3<T0, T1, T2> extends CompositeFutureWrap
      * It likes {@link CompositeFutureTuple2#joinApplift(BiFunction)} but with 3-arity.
      */
     public <R> Future<R> joinApplift(Function3<T0, T1, T2, Future<R>> function3) {
-        return composite.flatMap(future -> function3.apply(
+        return compositeFlatMap("CompositeFutureTuple3.joinApplift", future -> function3.apply(
                 composite.resultAt(0), composite.resultAt(1), composite.resultAt(2)
         ));
     }
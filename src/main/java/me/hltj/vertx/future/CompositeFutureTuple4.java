@@ -22,8 +22,11 @@
  */
 package me.hltj.vertx.future;
 
+import io.vertx.core.AsyncResult;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.WorkerExecutor;
 import lombok.ToString;
 import me.hltj.vertx.function.*;
 
@@ -31,8 +34,6 @@ import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
-import static me.hltj.vertx.FutureUtils.joinWrap;
-
 /**
  * The composite {@link Future} tuple warps a {@link CompositeFuture} and a {@link FutureTuple4}.
  * <p>
@@ -77,6 +78,71 @@ final public class CompositeFutureTuple4<T0, T1, T2, T3> extends CompositeFuture
         return tuple4;
     }
 
+    /**
+     * It likes {@link CompositeFutureTuple2#await()} but with 4-arity.
+     */
+    public FutureTuple4<T0, T1, T2, T3> await() {
+        Awaits.await(composite);
+        return tuple4;
+    }
+
+    /**
+     * Turn on the slot timing mode.
+     * <p>
+     * It likes {@link CompositeFutureTuple2#timeSlots(String)} but with 4-arity.
+     */
+    public CompositeFutureTuple4<T0, T1, T2, T3> timeSlots(String label) {
+        trackSlots(label, tuple4.get_0(), tuple4.get_1(), tuple4.get_2(), tuple4.get_3());
+        return this;
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#firstSucceeded()} but with 4-arity.
+     */
+    public <T> Future<Winner<T>> firstSucceeded() {
+        return firstSucceeded(tuple4.get_0(), tuple4.get_1(), tuple4.get_2(), tuple4.get_3());
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#onSlot(int, Handler)} but with 4-arity.
+     */
+    public <T> CompositeFutureTuple4<T0, T1, T2, T3> onSlot(int index, Handler<AsyncResult<T>> handler) {
+        onSlot(index, handler, tuple4.get_0(), tuple4.get_1(), tuple4.get_2(), tuple4.get_3());
+        return this;
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#on0(Handler)} but for the 1st slot with 4-arity.
+     */
+    public CompositeFutureTuple4<T0, T1, T2, T3> on0(Handler<AsyncResult<T0>> handler) {
+        tuple4.get_0().onComplete(ContextPropagation.wrapHandler(handler));
+        return this;
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#on0(Handler)} but for the 2nd slot with 4-arity.
+     */
+    public CompositeFutureTuple4<T0, T1, T2, T3> on1(Handler<AsyncResult<T1>> handler) {
+        tuple4.get_1().onComplete(ContextPropagation.wrapHandler(handler));
+        return this;
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#on0(Handler)} but for the 3rd slot with 4-arity.
+     */
+    public CompositeFutureTuple4<T0, T1, T2, T3> on2(Handler<AsyncResult<T2>> handler) {
+        tuple4.get_2().onComplete(ContextPropagation.wrapHandler(handler));
+        return this;
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#on0(Handler)} but for the 4th slot with 4-arity.
+     */
+    public CompositeFutureTuple4<T0, T1, T2, T3> on3(Handler<AsyncResult<T3>> handler) {
+        tuple4.get_3().onComplete(ContextPropagation.wrapHandler(handler));
+        return this;
+    }
+
     /**
      * Run side-effect code likes {@link CompositeFutureWrapper#use(Consumer)}, but the {@code consumer5} takes the
      * original 4 {@link Future}s as additional parameters.
@@ -130,7 +196,7 @@ final public class CompositeFutureTuple4<T0, T1, T2, T3> extends CompositeFuture
         Supplier<Future<R>> supplier = () -> function4.apply(
                 tuple4.get_0(), tuple4.get_1(), tuple4.get_2(), tuple4.get_3()
         );
-        return composite.compose(_x -> joinWrap(supplier), _t -> joinWrap(supplier));
+        return compositeJoinThrough("CompositeFutureTuple4.joinThrough", supplier);
     }
 
     /**
@@ -147,7 +213,27 @@ final public class CompositeFutureTuple4<T0, T1, T2, T3> extends CompositeFuture
      * It likes {@link CompositeFutureTuple2#applift(BiFunction)} but with 4-arity.
      */
     public <R> Future<R> applift(Function4<T0, T1, T2, T3, R> function4) {
-        return composite.map(future -> function4.apply(
+        return compositeMap("CompositeFutureTuple4.applift", future -> function4.apply(
+                composite.resultAt(0), composite.resultAt(1), composite.resultAt(2), composite.resultAt(3)
+        ));
+    }
+
+    /**
+     * Alias for {@link CompositeFutureTuple4#applift(WorkerExecutor, Function4)}.
+     */
+    public <R> Future<R> mapTyped(WorkerExecutor executor, Function4<T0, T1, T2, T3, R> function4) {
+        return applift(executor, function4);
+    }
+
+    /**
+     * Apply a function that accept all results of the original {@link Future}s on success on a worker pool, and
+     * return a {@link Future}.
+     * <p>
+     * It likes {@link CompositeFutureTuple2#applift(WorkerExecutor, BiFunction)} but with 4-arity.
+     */
+    public <R> Future<R> applift(WorkerExecutor executor, Function4<T0, T1, T2, T3, R> function4) {
+        String operation = "CompositeFutureTuple4.applift(WorkerExecutor)";
+        return compositeMapOnWorker(operation, executor, future -> function4.apply(
                 composite.resultAt(0), composite.resultAt(1), composite.resultAt(2), composite.resultAt(3)
         ));
     }
@@ -166,7 +252,7 @@ final public class CompositeFutureTuple4<T0, T1, T2, T3> extends CompositeFuture
      * It likes {@link CompositeFutureTuple2#joinApplift(BiFunction)} but with 4-arity.
      */
     public <R> Future<R> joinApplift(Function4<T0, T1, T2, T3, Future<R>> function4) {
-        return composite.flatMap(future -> function4.apply(
+        return compositeFlatMap("CompositeFutureTuple4.joinApplift", future -> function4.apply(
                 composite.resultAt(0), composite.resultAt(1), composite.resultAt(2), composite.resultAt(3)
         ));
     }
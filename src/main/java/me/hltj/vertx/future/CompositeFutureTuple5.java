@@ -22,8 +22,11 @@
  */
 package me.hltj.vertx.future;
 
+import io.vertx.core.AsyncResult;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.WorkerExecutor;
 import lombok.ToString;
 import me.hltj.vertx.function.*;
 
@@ -31,8 +34,6 @@ import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
-import static me.hltj.vertx.FutureUtils.joinWrap;
-
 /**
  * The composite {@link Future} tuple warps a {@link CompositeFuture} and a {@link FutureTuple5}.
  * <p>
@@ -79,6 +80,79 @@ final public class CompositeFutureTuple5<T0, T1, T2, T3, T4> extends CompositeFu
         return tuple5;
     }
 
+    /**
+     * It likes {@link CompositeFutureTuple2#await()} but with 5-arity.
+     */
+    public FutureTuple5<T0, T1, T2, T3, T4> await() {
+        Awaits.await(composite);
+        return tuple5;
+    }
+
+    /**
+     * Turn on the slot timing mode.
+     * <p>
+     * It likes {@link CompositeFutureTuple2#timeSlots(String)} but with 5-arity.
+     */
+    public CompositeFutureTuple5<T0, T1, T2, T3, T4> timeSlots(String label) {
+        trackSlots(label, tuple5.get_0(), tuple5.get_1(), tuple5.get_2(), tuple5.get_3(), tuple5.get_4());
+        return this;
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#firstSucceeded()} but with 5-arity.
+     */
+    public <T> Future<Winner<T>> firstSucceeded() {
+        return firstSucceeded(tuple5.get_0(), tuple5.get_1(), tuple5.get_2(), tuple5.get_3(), tuple5.get_4());
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#onSlot(int, Handler)} but with 5-arity.
+     */
+    public <T> CompositeFutureTuple5<T0, T1, T2, T3, T4> onSlot(int index, Handler<AsyncResult<T>> handler) {
+        onSlot(index, handler, tuple5.get_0(), tuple5.get_1(), tuple5.get_2(), tuple5.get_3(), tuple5.get_4());
+        return this;
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#on0(Handler)} but for the 1st slot with 5-arity.
+     */
+    public CompositeFutureTuple5<T0, T1, T2, T3, T4> on0(Handler<AsyncResult<T0>> handler) {
+        tuple5.get_0().onComplete(ContextPropagation.wrapHandler(handler));
+        return this;
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#on0(Handler)} but for the 2nd slot with 5-arity.
+     */
+    public CompositeFutureTuple5<T0, T1, T2, T3, T4> on1(Handler<AsyncResult<T1>> handler) {
+        tuple5.get_1().onComplete(ContextPropagation.wrapHandler(handler));
+        return this;
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#on0(Handler)} but for the 3rd slot with 5-arity.
+     */
+    public CompositeFutureTuple5<T0, T1, T2, T3, T4> on2(Handler<AsyncResult<T2>> handler) {
+        tuple5.get_2().onComplete(ContextPropagation.wrapHandler(handler));
+        return this;
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#on0(Handler)} but for the 4th slot with 5-arity.
+     */
+    public CompositeFutureTuple5<T0, T1, T2, T3, T4> on3(Handler<AsyncResult<T3>> handler) {
+        tuple5.get_3().onComplete(ContextPropagation.wrapHandler(handler));
+        return this;
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#on0(Handler)} but for the 5th slot with 5-arity.
+     */
+    public CompositeFutureTuple5<T0, T1, T2, T3, T4> on4(Handler<AsyncResult<T4>> handler) {
+        tuple5.get_4().onComplete(ContextPropagation.wrapHandler(handler));
+        return this;
+    }
+
     /**
      * Run side-effect code likes {@link CompositeFutureWrapper#use(Consumer)}, but the {@code consumer6} takes the
      * original 5 {@link Future}s as additional parameters.
@@ -140,7 +214,7 @@ final public class CompositeFutureTuple5<T0, T1, T2, T3, T4> extends CompositeFu
         Supplier<Future<R>> supplier = () -> function5.apply(
                 tuple5.get_0(), tuple5.get_1(), tuple5.get_2(), tuple5.get_3(), tuple5.get_4()
         );
-        return composite.compose(_x -> joinWrap(supplier), _t -> joinWrap(supplier));
+        return compositeJoinThrough("CompositeFutureTuple5.joinThrough", supplier);
     }
 
     /**
@@ -157,7 +231,28 @@ final public class CompositeFutureTuple5<T0, T1, T2, T3, T4> extends CompositeFu
      * It likes {@link CompositeFutureTuple2#applift(BiFunction)} but with 5-arity.
      */
     public <R> Future<R> applift(Function5<T0, T1, T2, T3, T4, R> function5) {
-        return composite.map(future -> function5.apply(
+        return compositeMap("CompositeFutureTuple5.applift", future -> function5.apply(
+                composite.resultAt(0), composite.resultAt(1), composite.resultAt(2), composite.resultAt(3),
+                composite.resultAt(4)
+        ));
+    }
+
+    /**
+     * Alias for {@link CompositeFutureTuple5#applift(WorkerExecutor, Function5)}.
+     */
+    public <R> Future<R> mapTyped(WorkerExecutor executor, Function5<T0, T1, T2, T3, T4, R> function5) {
+        return applift(executor, function5);
+    }
+
+    /**
+     * Apply a function that accept all results of the original {@link Future}s on success on a worker pool, and
+     * return a {@link Future}.
+     * <p>
+     * It likes {@link CompositeFutureTuple2#applift(WorkerExecutor, BiFunction)} but with 5-arity.
+     */
+    public <R> Future<R> applift(WorkerExecutor executor, Function5<T0, T1, T2, T3, T4, R> function5) {
+        String operation = "CompositeFutureTuple5.applift(WorkerExecutor)";
+        return compositeMapOnWorker(operation, executor, future -> function5.apply(
                 composite.resultAt(0), composite.resultAt(1), composite.resultAt(2), composite.resultAt(3),
                 composite.resultAt(4)
         ));
@@ -177,7 +272,7 @@ final public class CompositeFutureTuple5<T0, T1, T2, T3, T4> extends CompositeFu
      * It likes {@link CompositeFutureTuple2#joinApplift(BiFunction)} but with 5-arity.
      */
     public <R> Future<R> joinApplift(Function5<T0, T1, T2, T3, T4, Future<R>> function5) {
-        return composite.flatMap(future -> function5.apply(
+        return compositeFlatMap("CompositeFutureTuple5.joinApplift", future -> function5.apply(
                 composite.resultAt(0), composite.resultAt(1), composite.resultAt(2), composite.resultAt(3),
                 composite.resultAt(4)
         ));
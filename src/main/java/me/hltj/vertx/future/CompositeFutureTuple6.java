@@ -22,8 +22,11 @@
  */
 package me.hltj.vertx.future;
 
+import io.vertx.core.AsyncResult;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.WorkerExecutor;
 import lombok.ToString;
 import me.hltj.vertx.function.*;
 
@@ -31,8 +34,6 @@ import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
-import static me.hltj.vertx.FutureUtils.joinWrap;
-
 /**
  * The composite {@link Future} tuple warps a {@link CompositeFuture} and a {@link FutureTuple6}.
  * <p>
@@ -81,6 +82,95 @@ final public class CompositeFutureTuple6<T0, T1, T2, T3, T4, T5> extends Composi
         return tuple6;
     }
 
+    /**
+     * It likes {@link CompositeFutureTuple2#await()} but with 6-arity.
+     */
+    public FutureTuple6<T0, T1, T2, T3, T4, T5> await() {
+        Awaits.await(composite);
+        return tuple6;
+    }
+
+    /**
+     * Turn on the slot timing mode.
+     * <p>
+     * It likes {@link CompositeFutureTuple2#timeSlots(String)} but with 6-arity.
+     */
+    public CompositeFutureTuple6<T0, T1, T2, T3, T4, T5> timeSlots(String label) {
+        trackSlots(
+                label,
+                tuple6.get_0(), tuple6.get_1(), tuple6.get_2(), tuple6.get_3(), tuple6.get_4(), tuple6.get_5()
+        );
+        return this;
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#firstSucceeded()} but with 6-arity.
+     */
+    public <T> Future<Winner<T>> firstSucceeded() {
+        return firstSucceeded(
+                tuple6.get_0(), tuple6.get_1(), tuple6.get_2(), tuple6.get_3(), tuple6.get_4(), tuple6.get_5()
+        );
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#onSlot(int, Handler)} but with 6-arity.
+     */
+    public <T> CompositeFutureTuple6<T0, T1, T2, T3, T4, T5> onSlot(int index, Handler<AsyncResult<T>> handler) {
+        onSlot(
+                index, handler,
+                tuple6.get_0(), tuple6.get_1(), tuple6.get_2(), tuple6.get_3(), tuple6.get_4(), tuple6.get_5()
+        );
+        return this;
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#on0(Handler)} but for the 1st slot with 6-arity.
+     */
+    public CompositeFutureTuple6<T0, T1, T2, T3, T4, T5> on0(Handler<AsyncResult<T0>> handler) {
+        tuple6.get_0().onComplete(ContextPropagation.wrapHandler(handler));
+        return this;
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#on0(Handler)} but for the 2nd slot with 6-arity.
+     */
+    public CompositeFutureTuple6<T0, T1, T2, T3, T4, T5> on1(Handler<AsyncResult<T1>> handler) {
+        tuple6.get_1().onComplete(ContextPropagation.wrapHandler(handler));
+        return this;
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#on0(Handler)} but for the 3rd slot with 6-arity.
+     */
+    public CompositeFutureTuple6<T0, T1, T2, T3, T4, T5> on2(Handler<AsyncResult<T2>> handler) {
+        tuple6.get_2().onComplete(ContextPropagation.wrapHandler(handler));
+        return this;
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#on0(Handler)} but for the 4th slot with 6-arity.
+     */
+    public CompositeFutureTuple6<T0, T1, T2, T3, T4, T5> on3(Handler<AsyncResult<T3>> handler) {
+        tuple6.get_3().onComplete(ContextPropagation.wrapHandler(handler));
+        return this;
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#on0(Handler)} but for the 5th slot with 6-arity.
+     */
+    public CompositeFutureTuple6<T0, T1, T2, T3, T4, T5> on4(Handler<AsyncResult<T4>> handler) {
+        tuple6.get_4().onComplete(ContextPropagation.wrapHandler(handler));
+        return this;
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#on0(Handler)} but for the 6th slot with 6-arity.
+     */
+    public CompositeFutureTuple6<T0, T1, T2, T3, T4, T5> on5(Handler<AsyncResult<T5>> handler) {
+        tuple6.get_5().onComplete(ContextPropagation.wrapHandler(handler));
+        return this;
+    }
+
     /**
      * Run side-effect code likes {@link CompositeFutureWrapper#use(Consumer)}, but the {@code consumer7} takes the
      * original 6 {@link Future}s as additional parameters.
@@ -154,7 +244,7 @@ final public class CompositeFutureTuple6<T0, T1, T2, T3, T4, T5> extends Composi
         Supplier<Future<R>> supplier = () -> function6.apply(
                 tuple6.get_0(), tuple6.get_1(), tuple6.get_2(), tuple6.get_3(), tuple6.get_4(), tuple6.get_5()
         );
-        return composite.compose(_x -> joinWrap(supplier), _t -> joinWrap(supplier));
+        return compositeJoinThrough("CompositeFutureTuple6.joinThrough", supplier);
     }
 
     /**
@@ -171,7 +261,28 @@ final public class CompositeFutureTuple6<T0, T1, T2, T3, T4, T5> extends Composi
      * It likes {@link CompositeFutureTuple2#applift(BiFunction)} but with 6-arity.
      */
     public <R> Future<R> applift(Function6<T0, T1, T2, T3, T4, T5, R> function6) {
-        return composite.map(future -> function6.apply(
+        return compositeMap("CompositeFutureTuple6.applift", future -> function6.apply(
+                composite.resultAt(0), composite.resultAt(1), composite.resultAt(2), composite.resultAt(3),
+                composite.resultAt(4), composite.resultAt(5)
+        ));
+    }
+
+    /**
+     * Alias for {@link CompositeFutureTuple6#applift(WorkerExecutor, Function6)}.
+     */
+    public <R> Future<R> mapTyped(WorkerExecutor executor, Function6<T0, T1, T2, T3, T4, T5, R> function6) {
+        return applift(executor, function6);
+    }
+
+    /**
+     * Apply a function that accept all results of the original {@link Future}s on success on a worker pool, and
+     * return a {@link Future}.
+     * <p>
+     * It likes {@link CompositeFutureTuple2#applift(WorkerExecutor, BiFunction)} but with 6-arity.
+     */
+    public <R> Future<R> applift(WorkerExecutor executor, Function6<T0, T1, T2, T3, T4, T5, R> function6) {
+        String operation = "CompositeFutureTuple6.applift(WorkerExecutor)";
+        return compositeMapOnWorker(operation, executor, future -> function6.apply(
                 composite.resultAt(0), composite.resultAt(1), composite.resultAt(2), composite.resultAt(3),
                 composite.resultAt(4), composite.resultAt(5)
         ));
@@ -191,7 +302,7 @@ final public class CompositeFutureTuple6<T0, T1, T2, T3, T4, T5> extends Composi
      * It likes {@link CompositeFutureTuple2#joinApplift(BiFunction)} but with 6-arity.
      */
     public <R> Future<R> joinApplift(Function6<T0, T1, T2, T3, T4, T5, Future<R>> function6) {
-        return composite.flatMap(future -> function6.apply(
+        return compositeFlatMap("CompositeFutureTuple6.joinApplift", future -> function6.apply(
                 composite.resultAt(0), composite.resultAt(1), composite.resultAt(2), composite.resultAt(3),
                 composite.resultAt(4), composite.resultAt(5)
         ));
@@ -22,8 +22,11 @@
  */
 package me.hltj.vertx.future;
 
+import io.vertx.core.AsyncResult;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.WorkerExecutor;
 import lombok.ToString;
 import me.hltj.vertx.function.*;
 
@@ -31,8 +34,6 @@ import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
-import static me.hltj.vertx.FutureUtils.joinWrap;
-
 /**
  * The composite {@link Future} tuple warps a {@link CompositeFuture} and a {@link FutureTuple7}.
  * <p>
@@ -83,6 +84,106 @@ final public class CompositeFutureTuple7<T0, T1, T2, T3, T4, T5, T6> extends Com
         return tuple7;
     }
 
+    /**
+     * It likes {@link CompositeFutureTuple2#await()} but with 7-arity.
+     */
+    public FutureTuple7<T0, T1, T2, T3, T4, T5, T6> await() {
+        Awaits.await(composite);
+        return tuple7;
+    }
+
+    /**
+     * Turn on the slot timing mode.
+     * <p>
+     * It likes {@link CompositeFutureTuple2#timeSlots(String)} but with 7-arity.
+     */
+    public CompositeFutureTuple7<T0, T1, T2, T3, T4, T5, T6> timeSlots(String label) {
+        trackSlots(
+                label,
+                tuple7.get_0(), tuple7.get_1(), tuple7.get_2(), tuple7.get_3(), tuple7.get_4(), tuple7.get_5(),
+                tuple7.get_6()
+        );
+        return this;
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#firstSucceeded()} but with 7-arity.
+     */
+    public <T> Future<Winner<T>> firstSucceeded() {
+        return firstSucceeded(
+                tuple7.get_0(), tuple7.get_1(), tuple7.get_2(), tuple7.get_3(), tuple7.get_4(), tuple7.get_5(),
+                tuple7.get_6()
+        );
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#onSlot(int, Handler)} but with 7-arity.
+     */
+    public <T> CompositeFutureTuple7<T0, T1, T2, T3, T4, T5, T6> onSlot(int index, Handler<AsyncResult<T>> handler) {
+        onSlot(
+                index, handler,
+                tuple7.get_0(), tuple7.get_1(), tuple7.get_2(), tuple7.get_3(), tuple7.get_4(), tuple7.get_5(),
+                tuple7.get_6()
+        );
+        return this;
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#on0(Handler)} but for the 1st slot with 7-arity.
+     */
+    public CompositeFutureTuple7<T0, T1, T2, T3, T4, T5, T6> on0(Handler<AsyncResult<T0>> handler) {
+        tuple7.get_0().onComplete(ContextPropagation.wrapHandler(handler));
+        return this;
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#on0(Handler)} but for the 2nd slot with 7-arity.
+     */
+    public CompositeFutureTuple7<T0, T1, T2, T3, T4, T5, T6> on1(Handler<AsyncResult<T1>> handler) {
+        tuple7.get_1().onComplete(ContextPropagation.wrapHandler(handler));
+        return this;
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#on0(Handler)} but for the 3rd slot with 7-arity.
+     */
+    public CompositeFutureTuple7<T0, T1, T2, T3, T4, T5, T6> on2(Handler<AsyncResult<T2>> handler) {
+        tuple7.get_2().onComplete(ContextPropagation.wrapHandler(handler));
+        return this;
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#on0(Handler)} but for the 4th slot with 7-arity.
+     */
+    public CompositeFutureTuple7<T0, T1, T2, T3, T4, T5, T6> on3(Handler<AsyncResult<T3>> handler) {
+        tuple7.get_3().onComplete(ContextPropagation.wrapHandler(handler));
+        return this;
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#on0(Handler)} but for the 5th slot with 7-arity.
+     */
+    public CompositeFutureTuple7<T0, T1, T2, T3, T4, T5, T6> on4(Handler<AsyncResult<T4>> handler) {
+        tuple7.get_4().onComplete(ContextPropagation.wrapHandler(handler));
+        return this;
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#on0(Handler)} but for the 6th slot with 7-arity.
+     */
+    public CompositeFutureTuple7<T0, T1, T2, T3, T4, T5, T6> on5(Handler<AsyncResult<T5>> handler) {
+        tuple7.get_5().onComplete(ContextPropagation.wrapHandler(handler));
+        return this;
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#on0(Handler)} but for the 7th slot with 7-arity.
+     */
+    public CompositeFutureTuple7<T0, T1, T2, T3, T4, T5, T6> on6(Handler<AsyncResult<T6>> handler) {
+        tuple7.get_6().onComplete(ContextPropagation.wrapHandler(handler));
+        return this;
+    }
+
     /**
      * Run side-effect code likes {@link CompositeFutureWrapper#use(Consumer)}, but the {@code consumer8} takes the
      * original 7 {@link Future}s as additional parameters.
@@ -159,7 +260,7 @@ final public class CompositeFutureTuple7<T0, T1, T2, T3, T4, T5, T6> extends Com
                 tuple7.get_0(), tuple7.get_1(), tuple7.get_2(), tuple7.get_3(), tuple7.get_4(), tuple7.get_5(),
                 tuple7.get_6()
         );
-        return composite.compose(_x -> joinWrap(supplier), _t -> joinWrap(supplier));
+        return compositeJoinThrough("CompositeFutureTuple7.joinThrough", supplier);
     }
 
     /**
@@ -176,7 +277,28 @@ final public class CompositeFutureTuple7<T0, T1, T2, T3, T4, T5, T6> extends Com
      * It likes {@link CompositeFutureTuple2#applift(BiFunction)} but with 7-arity.
      */
     public <R> Future<R> applift(Function7<T0, T1, T2, T3, T4, T5, T6, R> function7) {
-        return composite.map(future -> function7.apply(
+        return compositeMap("CompositeFutureTuple7.applift", future -> function7.apply(
+                composite.resultAt(0), composite.resultAt(1), composite.resultAt(2), composite.resultAt(3),
+                composite.resultAt(4), composite.resultAt(5), composite.resultAt(6)
+        ));
+    }
+
+    /**
+     * Alias for {@link CompositeFutureTuple7#applift(WorkerExecutor, Function7)}.
+     */
+    public <R> Future<R> mapTyped(WorkerExecutor executor, Function7<T0, T1, T2, T3, T4, T5, T6, R> function7) {
+        return applift(executor, function7);
+    }
+
+    /**
+     * Apply a function that accept all results of the original {@link Future}s on success on a worker pool, and
+     * return a {@link Future}.
+     * <p>
+     * It likes {@link CompositeFutureTuple2#applift(WorkerExecutor, BiFunction)} but with 7-arity.
+     */
+    public <R> Future<R> applift(WorkerExecutor executor, Function7<T0, T1, T2, T3, T4, T5, T6, R> function7) {
+        String operation = "CompositeFutureTuple7.applift(WorkerExecutor)";
+        return compositeMapOnWorker(operation, executor, future -> function7.apply(
                 composite.resultAt(0), composite.resultAt(1), composite.resultAt(2), composite.resultAt(3),
                 composite.resultAt(4), composite.resultAt(5), composite.resultAt(6)
         ));
@@ -196,7 +318,7 @@ final public class CompositeFutureTuple7<T0, T1, T2, T3, T4, T5, T6> extends Com
      * It likes {@link CompositeFutureTuple2#joinApplift(BiFunction)} but with 7-arity.
      */
     public <R> Future<R> joinApplift(Function7<T0, T1, T2, T3, T4, T5, T6, Future<R>> function7) {
-        return composite.flatMap(future -> function7.apply(
+        return compositeFlatMap("CompositeFutureTuple7.joinApplift", future -> function7.apply(
                 composite.resultAt(0), composite.resultAt(1), composite.resultAt(2), composite.resultAt(3),
                 composite.resultAt(4), composite.resultAt(5), composite.resultAt(6)
         ));
@@ -22,8 +22,11 @@
  */
 package me.hltj.vertx.future;
 
+import io.vertx.core.AsyncResult;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.WorkerExecutor;
 import lombok.ToString;
 import me.hltj.vertx.function.*;
 
@@ -31,8 +34,6 @@ import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
-import static me.hltj.vertx.FutureUtils.joinWrap;
-
 /**
  * The composite {@link Future} tuple warps a {@link CompositeFuture} and a {@link FutureTuple8}.
  * <p>
@@ -85,6 +86,116 @@ final public class CompositeFutureTuple8<T0, T1, T2, T3, T4, T5, T6, T7> extends
         return tuple8;
     }
 
+    /**
+     * It likes {@link CompositeFutureTuple2#await()} but with 8-arity.
+     */
+    public FutureTuple8<T0, T1, T2, T3, T4, T5, T6, T7> await() {
+        Awaits.await(composite);
+        return tuple8;
+    }
+
+    /**
+     * Turn on the slot timing mode.
+     * <p>
+     * It likes {@link CompositeFutureTuple2#timeSlots(String)} but with 8-arity.
+     */
+    public CompositeFutureTuple8<T0, T1, T2, T3, T4, T5, T6, T7> timeSlots(String label) {
+        trackSlots(
+                label,
+                tuple8.get_0(), tuple8.get_1(), tuple8.get_2(), tuple8.get_3(), tuple8.get_4(), tuple8.get_5(),
+                tuple8.get_6(), tuple8.get_7()
+        );
+        return this;
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#firstSucceeded()} but with 8-arity.
+     */
+    public <T> Future<Winner<T>> firstSucceeded() {
+        return firstSucceeded(
+                tuple8.get_0(), tuple8.get_1(), tuple8.get_2(), tuple8.get_3(), tuple8.get_4(), tuple8.get_5(),
+                tuple8.get_6(), tuple8.get_7()
+        );
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#onSlot(int, Handler)} but with 8-arity.
+     */
+    public <T> CompositeFutureTuple8<T0, T1, T2, T3, T4, T5, T6, T7> onSlot(
+            int index, Handler<AsyncResult<T>> handler
+    ) {
+        onSlot(
+                index, handler,
+                tuple8.get_0(), tuple8.get_1(), tuple8.get_2(), tuple8.get_3(), tuple8.get_4(), tuple8.get_5(),
+                tuple8.get_6(), tuple8.get_7()
+        );
+        return this;
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#on0(Handler)} but for the 1st slot with 8-arity.
+     */
+    public CompositeFutureTuple8<T0, T1, T2, T3, T4, T5, T6, T7> on0(Handler<AsyncResult<T0>> handler) {
+        tuple8.get_0().onComplete(ContextPropagation.wrapHandler(handler));
+        return this;
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#on0(Handler)} but for the 2nd slot with 8-arity.
+     */
+    public CompositeFutureTuple8<T0, T1, T2, T3, T4, T5, T6, T7> on1(Handler<AsyncResult<T1>> handler) {
+        tuple8.get_1().onComplete(ContextPropagation.wrapHandler(handler));
+        return this;
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#on0(Handler)} but for the 3rd slot with 8-arity.
+     */
+    public CompositeFutureTuple8<T0, T1, T2, T3, T4, T5, T6, T7> on2(Handler<AsyncResult<T2>> handler) {
+        tuple8.get_2().onComplete(ContextPropagation.wrapHandler(handler));
+        return this;
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#on0(Handler)} but for the 4th slot with 8-arity.
+     */
+    public CompositeFutureTuple8<T0, T1, T2, T3, T4, T5, T6, T7> on3(Handler<AsyncResult<T3>> handler) {
+        tuple8.get_3().onComplete(ContextPropagation.wrapHandler(handler));
+        return this;
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#on0(Handler)} but for the 5th slot with 8-arity.
+     */
+    public CompositeFutureTuple8<T0, T1, T2, T3, T4, T5, T6, T7> on4(Handler<AsyncResult<T4>> handler) {
+        tuple8.get_4().onComplete(ContextPropagation.wrapHandler(handler));
+        return this;
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#on0(Handler)} but for the 6th slot with 8-arity.
+     */
+    public CompositeFutureTuple8<T0, T1, T2, T3, T4, T5, T6, T7> on5(Handler<AsyncResult<T5>> handler) {
+        tuple8.get_5().onComplete(ContextPropagation.wrapHandler(handler));
+        return this;
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#on0(Handler)} but for the 7th slot with 8-arity.
+     */
+    public CompositeFutureTuple8<T0, T1, T2, T3, T4, T5, T6, T7> on6(Handler<AsyncResult<T6>> handler) {
+        tuple8.get_6().onComplete(ContextPropagation.wrapHandler(handler));
+        return this;
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#on0(Handler)} but for the 8th slot with 8-arity.
+     */
+    public CompositeFutureTuple8<T0, T1, T2, T3, T4, T5, T6, T7> on7(Handler<AsyncResult<T7>> handler) {
+        tuple8.get_7().onComplete(ContextPropagation.wrapHandler(handler));
+        return this;
+    }
+
     /**
      * Run side-effect code likes {@link CompositeFutureWrapper#use(Consumer)}, but the {@code consumer9} takes the
      * original 8 {@link Future}s as additional parameters.
@@ -163,7 +274,7 @@ final public class CompositeFutureTuple8<T0, T1, T2, T3, T4, T5, T6, T7> extends
                 tuple8.get_0(), tuple8.get_1(), tuple8.get_2(), tuple8.get_3(), tuple8.get_4(), tuple8.get_5(),
                 tuple8.get_6(), tuple8.get_7()
         );
-        return composite.compose(_x -> joinWrap(supplier), _t -> joinWrap(supplier));
+        return compositeJoinThrough("CompositeFutureTuple8.joinThrough", supplier);
     }
 
     /**
@@ -180,7 +291,28 @@ final public class CompositeFutureTuple8<T0, T1, T2, T3, T4, T5, T6, T7> extends
      * It likes {@link CompositeFutureTuple2#applift(BiFunction)} but with 8-arity.
      */
     public <R> Future<R> applift(Function8<T0, T1, T2, T3, T4, T5, T6, T7, R> function8) {
-        return composite.map(future -> function8.apply(
+        return compositeMap("CompositeFutureTuple8.applift", future -> function8.apply(
+                composite.resultAt(0), composite.resultAt(1), composite.resultAt(2), composite.resultAt(3),
+                composite.resultAt(4), composite.resultAt(5), composite.resultAt(6), composite.resultAt(7)
+        ));
+    }
+
+    /**
+     * Alias for {@link CompositeFutureTuple8#applift(WorkerExecutor, Function8)}.
+     */
+    public <R> Future<R> mapTyped(WorkerExecutor executor, Function8<T0, T1, T2, T3, T4, T5, T6, T7, R> function8) {
+        return applift(executor, function8);
+    }
+
+    /**
+     * Apply a function that accept all results of the original {@link Future}s on success on a worker pool, and
+     * return a {@link Future}.
+     * <p>
+     * It likes {@link CompositeFutureTuple2#applift(WorkerExecutor, BiFunction)} but with 8-arity.
+     */
+    public <R> Future<R> applift(WorkerExecutor executor, Function8<T0, T1, T2, T3, T4, T5, T6, T7, R> function8) {
+        String operation = "CompositeFutureTuple8.applift(WorkerExecutor)";
+        return compositeMapOnWorker(operation, executor, future -> function8.apply(
                 composite.resultAt(0), composite.resultAt(1), composite.resultAt(2), composite.resultAt(3),
                 composite.resultAt(4), composite.resultAt(5), composite.resultAt(6), composite.resultAt(7)
         ));
@@ -200,7 +332,7 @@ final public class CompositeFutureTuple8<T0, T1, T2, T3, T4, T5, T6, T7> extends
      * It likes {@link CompositeFutureTuple2#joinApplift(BiFunction)} but with 8-arity.
      */
     public <R> Future<R> joinApplift(Function8<T0, T1, T2, T3, T4, T5, T6, T7, Future<R>> function8) {
-        return composite.flatMap(future -> function8.apply(
+        return compositeFlatMap("CompositeFutureTuple8.joinApplift", future -> function8.apply(
                 composite.resultAt(0), composite.resultAt(1), composite.resultAt(2), composite.resultAt(3),
                 composite.resultAt(4), composite.resultAt(5), composite.resultAt(6), composite.resultAt(7)
         ));
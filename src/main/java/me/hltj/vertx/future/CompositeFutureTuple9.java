@@ -22,8 +22,11 @@
  */
 package me.hltj.vertx.future;
 
+import io.vertx.core.AsyncResult;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.WorkerExecutor;
 import lombok.ToString;
 import me.hltj.vertx.function.*;
 
@@ -31,8 +34,6 @@ import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
-import static me.hltj.vertx.FutureUtils.joinWrap;
-
 /**
  * The composite {@link Future} tuple warps a {@link CompositeFuture} and a {@link FutureTuple9}.
  * <p>
@@ -87,6 +88,124 @@ final public class CompositeFutureTuple9<T0, T1, T2, T3, T4, T5, T6, T7, T8> ext
         return tuple9;
     }
 
+    /**
+     * It likes {@link CompositeFutureTuple2#await()} but with 9-arity.
+     */
+    public FutureTuple9<T0, T1, T2, T3, T4, T5, T6, T7, T8> await() {
+        Awaits.await(composite);
+        return tuple9;
+    }
+
+    /**
+     * Turn on the slot timing mode.
+     * <p>
+     * It likes {@link CompositeFutureTuple2#timeSlots(String)} but with 9-arity.
+     */
+    public CompositeFutureTuple9<T0, T1, T2, T3, T4, T5, T6, T7, T8> timeSlots(String label) {
+        trackSlots(
+                label,
+                tuple9.get_0(), tuple9.get_1(), tuple9.get_2(), tuple9.get_3(), tuple9.get_4(), tuple9.get_5(),
+                tuple9.get_6(), tuple9.get_7(), tuple9.get_8()
+        );
+        return this;
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#firstSucceeded()} but with 9-arity.
+     */
+    public <T> Future<Winner<T>> firstSucceeded() {
+        return firstSucceeded(
+                tuple9.get_0(), tuple9.get_1(), tuple9.get_2(), tuple9.get_3(), tuple9.get_4(), tuple9.get_5(),
+                tuple9.get_6(), tuple9.get_7(), tuple9.get_8()
+        );
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#onSlot(int, Handler)} but with 9-arity.
+     */
+    public <T> CompositeFutureTuple9<T0, T1, T2, T3, T4, T5, T6, T7, T8> onSlot(
+            int index, Handler<AsyncResult<T>> handler
+    ) {
+        onSlot(
+                index, handler,
+                tuple9.get_0(), tuple9.get_1(), tuple9.get_2(), tuple9.get_3(), tuple9.get_4(), tuple9.get_5(),
+                tuple9.get_6(), tuple9.get_7(), tuple9.get_8()
+        );
+        return this;
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#on0(Handler)} but for the 1st slot with 9-arity.
+     */
+    public CompositeFutureTuple9<T0, T1, T2, T3, T4, T5, T6, T7, T8> on0(Handler<AsyncResult<T0>> handler) {
+        tuple9.get_0().onComplete(ContextPropagation.wrapHandler(handler));
+        return this;
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#on0(Handler)} but for the 2nd slot with 9-arity.
+     */
+    public CompositeFutureTuple9<T0, T1, T2, T3, T4, T5, T6, T7, T8> on1(Handler<AsyncResult<T1>> handler) {
+        tuple9.get_1().onComplete(ContextPropagation.wrapHandler(handler));
+        return this;
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#on0(Handler)} but for the 3rd slot with 9-arity.
+     */
+    public CompositeFutureTuple9<T0, T1, T2, T3, T4, T5, T6, T7, T8> on2(Handler<AsyncResult<T2>> handler) {
+        tuple9.get_2().onComplete(ContextPropagation.wrapHandler(handler));
+        return this;
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#on0(Handler)} but for the 4th slot with 9-arity.
+     */
+    public CompositeFutureTuple9<T0, T1, T2, T3, T4, T5, T6, T7, T8> on3(Handler<AsyncResult<T3>> handler) {
+        tuple9.get_3().onComplete(ContextPropagation.wrapHandler(handler));
+        return this;
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#on0(Handler)} but for the 5th slot with 9-arity.
+     */
+    public CompositeFutureTuple9<T0, T1, T2, T3, T4, T5, T6, T7, T8> on4(Handler<AsyncResult<T4>> handler) {
+        tuple9.get_4().onComplete(ContextPropagation.wrapHandler(handler));
+        return this;
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#on0(Handler)} but for the 6th slot with 9-arity.
+     */
+    public CompositeFutureTuple9<T0, T1, T2, T3, T4, T5, T6, T7, T8> on5(Handler<AsyncResult<T5>> handler) {
+        tuple9.get_5().onComplete(ContextPropagation.wrapHandler(handler));
+        return this;
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#on0(Handler)} but for the 7th slot with 9-arity.
+     */
+    public CompositeFutureTuple9<T0, T1, T2, T3, T4, T5, T6, T7, T8> on6(Handler<AsyncResult<T6>> handler) {
+        tuple9.get_6().onComplete(ContextPropagation.wrapHandler(handler));
+        return this;
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#on0(Handler)} but for the 8th slot with 9-arity.
+     */
+    public CompositeFutureTuple9<T0, T1, T2, T3, T4, T5, T6, T7, T8> on7(Handler<AsyncResult<T7>> handler) {
+        tuple9.get_7().onComplete(ContextPropagation.wrapHandler(handler));
+        return this;
+    }
+
+    /**
+     * It likes {@link CompositeFutureTuple2#on0(Handler)} but for the 9th slot with 9-arity.
+     */
+    public CompositeFutureTuple9<T0, T1, T2, T3, T4, T5, T6, T7, T8> on8(Handler<AsyncResult<T8>> handler) {
+        tuple9.get_8().onComplete(ContextPropagation.wrapHandler(handler));
+        return this;
+    }
+
     /**
      * Run side-effect code likes {@link CompositeFutureWrapper#use(Consumer)}, but the {@code consumer10} takes the
      * original 9 {@link Future}s as additional parameters.
@@ -165,7 +284,7 @@ final public class CompositeFutureTuple9<T0, T1, T2, T3, T4, T5, T6, T7, T8> ext
                 tuple9.get_0(), tuple9.get_1(), tuple9.get_2(), tuple9.get_3(), tuple9.get_4(), tuple9.get_5(),
                 tuple9.get_6(), tuple9.get_7(), tuple9.get_8()
         );
-        return composite.compose(_x -> joinWrap(supplier), _t -> joinWrap(supplier));
+        return compositeJoinThrough("CompositeFutureTuple9.joinThrough", supplier);
     }
 
     /**
@@ -182,7 +301,29 @@ final public class CompositeFutureTuple9<T0, T1, T2, T3, T4, T5, T6, T7, T8> ext
      * It likes {@link CompositeFutureTuple2#applift(BiFunction)} but with 9-arity.
      */
     public <R> Future<R> applift(Function9<T0, T1, T2, T3, T4, T5, T6, T7, T8, R> function9) {
-        return composite.map(future -> function9.apply(
+        return compositeMap("CompositeFutureTuple9.applift", future -> function9.apply(
+                composite.resultAt(0), composite.resultAt(1), composite.resultAt(2), composite.resultAt(3),
+                composite.resultAt(4), composite.resultAt(5), composite.resultAt(6), composite.resultAt(7),
+                composite.resultAt(8)
+        ));
+    }
+
+    /**
+     * Alias for {@link CompositeFutureTuple9#applift(WorkerExecutor, Function9)}.
+     */
+    public <R> Future<R> mapTyped(WorkerExecutor executor, Function9<T0, T1, T2, T3, T4, T5, T6, T7, T8, R> function9) {
+        return applift(executor, function9);
+    }
+
+    /**
+     * Apply a function that accept all results of the original {@link Future}s on success on a worker pool, and
+     * return a {@link Future}.
+     * <p>
+     * It likes {@link CompositeFutureTuple2#applift(WorkerExecutor, BiFunction)} but with 9-arity.
+     */
+    public <R> Future<R> applift(WorkerExecutor executor, Function9<T0, T1, T2, T3, T4, T5, T6, T7, T8, R> function9) {
+        String operation = "CompositeFutureTuple9.applift(WorkerExecutor)";
+        return compositeMapOnWorker(operation, executor, future -> function9.apply(
                 composite.resultAt(0), composite.resultAt(1), composite.resultAt(2), composite.resultAt(3),
                 composite.resultAt(4), composite.resultAt(5), composite.resultAt(6), composite.resultAt(7),
                 composite.resultAt(8)
@@ -203,7 +344,7 @@ final public class CompositeFutureTuple9<T0, T1, T2, T3, T4, T5, T6, T7, T8> ext
      * It likes {@link CompositeFutureTuple2#joinApplift(BiFunction)} but with 9-arity.
      */
     public <R> Future<R> joinApplift(Function9<T0, T1, T2, T3, T4, T5, T6, T7, T8, Future<R>> function9) {
-        return composite.flatMap(future -> function9.apply(
+        return compositeFlatMap("CompositeFutureTuple9.joinApplift", future -> function9.apply(
                 composite.resultAt(0), composite.resultAt(1), composite.resultAt(2), composite.resultAt(3),
                 composite.resultAt(4), composite.resultAt(5), composite.resultAt(6), composite.resultAt(7),
                 composite.resultAt(8)
@@ -22,22 +22,40 @@
  */
 package me.hltj.vertx.future;
 
+import io.vertx.core.AsyncResult;
 import io.vertx.core.CompositeFuture;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
-import lombok.AllArgsConstructor;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+import lombok.RequiredArgsConstructor;
+import me.hltj.vertx.metrics.BlockingDetector;
+import me.hltj.vertx.metrics.FutureMetrics;
+import me.hltj.vertx.metrics.Metrics;
 
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
-import static me.hltj.vertx.FutureUtils.joinWrap;
+import static me.hltj.vertx.future.InternalUtil.evaluate;
 
 /**
  * A {@link CompositeFuture} wrapper that provide some convenient operations as a complement.
  */
-@AllArgsConstructor
+@RequiredArgsConstructor
 public class CompositeFutureWrapper {
     protected final CompositeFuture composite;
+    private Future<?>[] slotFutures = null;
+    private long[] slotNanos = null;
+    private long slotStartNanos = 0;
+    private String slotLabel = null;
+    private int pendingSlots = 0;
+    private int criticalSlot = -1;
+    private Future<Winner<Object>> winner = null;
 
     /**
      * Create a {@link CompositeFutureWrapper} based on a {@link CompositeFuture}.
@@ -126,6 +144,228 @@ public class CompositeFutureWrapper {
      * @return the result {@code Future}
      */
     public <R> Future<R> joinThrough(Function<CompositeFuture, Future<R>> function) {
-        return composite.compose(_x -> joinWrap(composite, function), _t -> joinWrap(composite, function));
+        return compositeJoinThrough("CompositeFutureWrapper.joinThrough", () -> function.apply(composite));
+    }
+
+    /**
+     * Return the latency in nanoseconds between the slot timing mode is turned on and the slot {@code index}
+     * completes, or {@code -1} if the slot is still pending.
+     *
+     * @param index the index of the slot
+     * @return the latency in nanoseconds, or {@code -1}
+     * @throws IllegalStateException    if the slot timing mode is not turned on, e.g. by
+     *                                  {@link CompositeFutureTuple2#timeSlots(String)}
+     * @throws IllegalArgumentException if {@code index} is out of range
+     */
+    public synchronized long slotLatencyNanos(int index) {
+        checkSlotTiming();
+        if (index < 0 || index >= slotNanos.length) {
+            throw new IllegalArgumentException("index must be in [0, " + slotNanos.length + "): " + index);
+        }
+
+        return slotNanos[index];
+    }
+
+    /**
+     * Return the index of the slot that completed last (also known as the critical path), or {@code -1} if any slot
+     * is still pending.
+     *
+     * @return the index of the critical slot, or {@code -1}
+     * @throws IllegalStateException if the slot timing mode is not turned on, e.g. by
+     *                               {@link CompositeFutureTuple2#timeSlots(String)}
+     */
+    public synchronized int criticalSlot() {
+        checkSlotTiming();
+        return criticalSlot;
+    }
+
+    /**
+     * Turn on the slot timing mode for the original {@link Future}s, the latency of each slot is recorded to the
+     * {@link FutureMetrics} SPI if registered.
+     */
+    @SuppressWarnings("unchecked")
+    protected synchronized void trackSlots(String label, Future<?>... futures) {
+        if (slotNanos != null) {
+            return;
+        }
+
+        slotLabel = label;
+        slotFutures = futures;
+        slotStartNanos = System.nanoTime();
+        slotNanos = new long[futures.length];
+        Arrays.fill(slotNanos, -1);
+        pendingSlots = futures.length;
+        // one handler for all the slots, which finds the newly completed ones in the shared array
+        Handler<AsyncResult<Object>> handler = this::onSlotComplete;
+        for (Future<?> future : futures) {
+            ((Future<Object>) future).onComplete(handler);
+        }
+    }
+
+    /**
+     * Return a {@link Future} of the first succeeded one of the original {@link Future}s, or the failure cause of the
+     * last one if all failed. The winner is recorded when it completes, from the first call on, and the later calls
+     * return the same {@code Future}.
+     */
+    @SuppressWarnings("unchecked")
+    protected synchronized <T> Future<Winner<T>> firstSucceeded(Future<?>... futures) {
+        if (winner == null) {
+            Promise<Winner<Object>> promise = Promise.promise();
+            AtomicInteger pending = new AtomicInteger(futures.length);
+            for (int i = 0; i < futures.length; i++) {
+                int index = i;
+                futures[i].onComplete(ar -> {
+                    if (ar.succeeded()) {
+                        promise.tryComplete(new Winner<>(index, ar.result()));
+                    } else if (pending.decrementAndGet() == 0) {
+                        promise.tryFail(ar.cause());
+                    }
+                });
+            }
+            winner = promise.future();
+        }
+
+        return (Future<Winner<T>>) (Future<?>) winner;
+    }
+
+    /**
+     * Register {@code handler} to the original {@link Future} of slot {@code index}, that is called as soon as the
+     * slot completes.
+     */
+    @SuppressWarnings("unchecked")
+    protected <T> void onSlot(int index, Handler<AsyncResult<T>> handler, Future<?>... futures) {
+        if (index < 0 || index >= futures.length) {
+            throw new IndexOutOfBoundsException("index: " + index + ", arity: " + futures.length);
+        }
+
+        ((Future<T>) futures[index]).onComplete(ContextPropagation.wrapHandler(handler));
+    }
+
+    private synchronized void onSlotComplete(AsyncResult<Object> _ar) {
+        long latencyNanos = System.nanoTime() - slotStartNanos;
+        for (int index = 0; index < slotFutures.length && pendingSlots > 0; index++) {
+            if (slotNanos[index] != -1 || !slotFutures[index].isComplete()) {
+                continue;
+            }
+
+            slotNanos[index] = latencyNanos;
+            if (Metrics.SPI != null) {
+                Metrics.SPI.recordSlot(slotLabel, index, latencyNanos);
+            }
+
+            if (--pendingSlots == 0) {
+                criticalSlot = index;
+                if (Metrics.SPI != null) {
+                    Metrics.SPI.recordCriticalSlot(slotLabel, index, latencyNanos);
+                }
+            }
+        }
+    }
+
+    private void checkSlotTiming() {
+        if (slotNanos == null) {
+            throw new IllegalStateException("slot timing mode is not turned on");
+        }
+    }
+
+    /**
+     * Map the {@link CompositeFuture} on success likes {@link CompositeFuture#map(Function)}, and record it as
+     * {@code operation} to the {@link FutureMetrics} SPI if registered.
+     */
+    protected <R> Future<R> compositeMap(String operation, Function<CompositeFuture, R> function) {
+        if (!Metrics.diagnosing()) {
+            if (Metrics.SPI == null) {
+                return composite.map(function);
+            }
+
+            return Metrics.record(operation, System.nanoTime(), composite.map(function));
+        }
+
+        Function<CompositeFuture, R> wrapped =
+                ContextPropagation.wrapFunction(BlockingDetector.timed(operation, function));
+        if (Metrics.SPI == null) {
+            return Metrics.assembled(operation, composite.map(wrapped));
+        }
+
+        return Metrics.assembled(
+                operation, Metrics.record(operation, System.nanoTime(), composite.map(wrapped))
+        );
+    }
+
+    /**
+     * Map the {@link CompositeFuture} on success likes {@link CompositeFuture#flatMap(Function)}, and record it as
+     * {@code operation} to the {@link FutureMetrics} SPI if registered.
+     */
+    protected <R> Future<R> compositeFlatMap(String operation, Function<CompositeFuture, Future<R>> function) {
+        if (!Metrics.diagnosing()) {
+            if (Metrics.SPI == null) {
+                return composite.flatMap(function);
+            }
+
+            return Metrics.record(operation, System.nanoTime(), composite.flatMap(function));
+        }
+
+        Function<CompositeFuture, Future<R>> wrapped =
+                ContextPropagation.wrapFunction(BlockingDetector.timed(operation, function));
+        if (Metrics.SPI == null) {
+            return Metrics.assembled(operation, composite.flatMap(wrapped));
+        }
+
+        return Metrics.assembled(
+                operation, Metrics.record(operation, System.nanoTime(), composite.flatMap(wrapped))
+        );
+    }
+
+    /**
+     * Evaluate the {@code supplier} on complete no matter whether succeeded or failed, and record it as
+     * {@code operation} to the {@link FutureMetrics} SPI if registered.
+     */
+    protected <R> Future<R> compositeJoinThrough(String operation, Supplier<Future<R>> supplier) {
+        if (!Metrics.diagnosing()) {
+            if (Metrics.SPI == null) {
+                return composite.compose(_x -> evaluate(supplier), _t -> evaluate(supplier));
+            }
+
+            return Metrics.record(
+                    operation, System.nanoTime(), composite.compose(_x -> evaluate(supplier), _t -> evaluate(supplier))
+            );
+        }
+
+        Supplier<Future<R>> wrapped = ContextPropagation.wrapSupplier(BlockingDetector.timed(operation, supplier));
+        if (Metrics.SPI == null) {
+            return Metrics.assembled(
+                    operation, composite.compose(_x -> evaluate(wrapped), _t -> evaluate(wrapped))
+            );
+        }
+
+        return Metrics.assembled(operation, Metrics.record(
+                operation, System.nanoTime(), composite.compose(_x -> evaluate(wrapped), _t -> evaluate(wrapped))
+        ));
+    }
+
+    /**
+     * Map the {@link CompositeFuture} on success with a {@code function} run on a worker pool by
+     * {@link WorkerExecutor#executeBlocking(Handler, boolean, Handler)} unordered, and record it as {@code operation}
+     * to the {@link FutureMetrics} SPI if registered.
+     * <p>
+     * The function is dispatched from the context where this method is called if any, so that the result
+     * {@code Future} completes on it even if the composite future completes elsewhere.
+     */
+    protected <R> Future<R> compositeMapOnWorker(
+            String operation, WorkerExecutor executor, Function<CompositeFuture, R> function
+    ) {
+        Context context = Vertx.currentContext();
+        return compositeFlatMap(operation, future -> {
+            Function<CompositeFuture, R> wrapped = ContextPropagation.wrapFunction(function);
+            Handler<Promise<R>> blocking = blockingPromise -> blockingPromise.complete(wrapped.apply(future));
+            Promise<R> promise = Promise.promise();
+            if (context == null || context == Vertx.currentContext()) {
+                executor.executeBlocking(blocking, false, promise);
+            } else {
+                context.runOnContext(_v -> executor.executeBlocking(blocking, false, promise));
+            }
+
+            return promise.future();
+        });
     }
 }
@@ -0,0 +1,168 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.future;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import me.hltj.vertx.metrics.Metrics;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The installation of the {@link ContextPropagator}, and the wrappers used by the future combinators to propagate the
+ * context.
+ * <p>
+ * When no {@code ContextPropagator} is installed, the wrappers return what they wrap as is, and nothing is captured
+ * (e.g. no {@code ThreadLocal} is read).
+ */
+public final class ContextPropagation {
+    private static volatile ContextPropagator propagator = null;
+
+    private ContextPropagation() {
+    }
+
+    /**
+     * Install a {@link ContextPropagator}, replacing the installed one if any.
+     *
+     * @param propagator the {@code ContextPropagator}
+     */
+    public static synchronized void install(ContextPropagator propagator) {
+        ContextPropagation.propagator = Objects.requireNonNull(propagator);
+        Metrics.diagnostic(ContextPropagation.class, true);
+    }
+
+    /**
+     * Uninstall the installed {@link ContextPropagator} if any.
+     */
+    public static synchronized void uninstall() {
+        propagator = null;
+        Metrics.diagnostic(ContextPropagation.class, false);
+    }
+
+    /**
+     * Capture the current context, and wrap a {@code function} to run with the context.
+     *
+     * @param function the function
+     * @param <T>      the type of the input to the function
+     * @param <R>      the type of the result of the function
+     * @return the wrapped function, or {@code function} itself if no {@code ContextPropagator} is installed
+     */
+    public static <T, R> Function<T, R> wrapFunction(Function<T, R> function) {
+        if (!Metrics.diagnosing()) {
+            return function;
+        }
+
+        ContextPropagator propagator = ContextPropagation.propagator;
+        if (propagator == null) {
+            return function;
+        }
+
+        Object context = propagator.capture();
+        return t -> {
+            Object previous = propagator.attach(context);
+            try {
+                return function.apply(t);
+            } finally {
+                propagator.detach(previous);
+            }
+        };
+    }
+
+    /**
+     * Capture the current context, and wrap a {@code supplier} to run with the context.
+     *
+     * @param supplier the supplier
+     * @param <R>      the type of the result of the supplier
+     * @return the wrapped supplier, or {@code supplier} itself if no {@code ContextPropagator} is installed
+     */
+    public static <R> Supplier<R> wrapSupplier(Supplier<R> supplier) {
+        if (!Metrics.diagnosing()) {
+            return supplier;
+        }
+
+        ContextPropagator propagator = ContextPropagation.propagator;
+        if (propagator == null) {
+            return supplier;
+        }
+
+        Object context = propagator.capture();
+        return () -> {
+            Object previous = propagator.attach(context);
+            try {
+                return supplier.get();
+            } finally {
+                propagator.detach(previous);
+            }
+        };
+    }
+
+    /**
+     * Capture the current context, and wrap a {@code handler} to run with the context.
+     *
+     * @param handler the handler
+     * @param <T>     the type of the event
+     * @return the wrapped handler, or {@code handler} itself if no {@code ContextPropagator} is installed
+     */
+    public static <T> Handler<T> wrapHandler(Handler<T> handler) {
+        if (!Metrics.diagnosing()) {
+            return handler;
+        }
+
+        ContextPropagator propagator = ContextPropagation.propagator;
+        if (propagator == null) {
+            return handler;
+        }
+
+        Object context = propagator.capture();
+        return event -> {
+            Object previous = propagator.attach(context);
+            try {
+                handler.handle(event);
+            } finally {
+                propagator.detach(previous);
+            }
+        };
+    }
+
+    /**
+     * Capture the current context, and return a {@link Future} that completes as {@code future} with the context,
+     * so that the handlers of the returned {@code Future} run with the context.
+     *
+     * @param future the {@code Future}
+     * @param <T>    the type parameter of the {@code Future}
+     * @return the returned {@code Future}, or {@code future} itself if no {@code ContextPropagator} is installed or
+     * {@code future} is already completed
+     */
+    public static <T> Future<T> propagate(Future<T> future) {
+        if (!Metrics.diagnosing() || propagator == null || future.isComplete()) {
+            return future;
+        }
+
+        Promise<T> promise = Promise.promise();
+        future.onComplete(wrapHandler(promise));
+        return promise.future();
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.future;
+
+/**
+ * A hook to propagate a caller-supplied context, e.g. a trace or span, through the future combinators.
+ * <p>
+ * Once installed by {@link ContextPropagation#install(ContextPropagator)}, the current context is captured when
+ * {@code FutureUtils.futurize}, {@code FutureUtils.joinWrap} or a continuation of a composite future tuple (e.g.
+ * {@code applift}, {@code joinThrough}) is created, and made current around the continuation later, no matter which
+ * thread it runs on.
+ * <p>
+ * Implementations are usually bridges to a tracing library, e.g. {@code capture} returns the current span context,
+ * {@code attach} makes it current and returns the previous one, and {@code detach} restores the previous one.
+ */
+public interface ContextPropagator {
+
+    /**
+     * Capture the current context of the calling thread.
+     *
+     * @return the current context, may be {@code null}
+     */
+    Object capture();
+
+    /**
+     * Make a captured context current.
+     *
+     * @param context the context returned by {@link #capture()}
+     * @return the previous context, to be restored by {@link #detach(Object)}
+     */
+    Object attach(Object context);
+
+    /**
+     * Restore the previous context after a continuation runs.
+     *
+     * @param previous the previous context returned by {@link #attach(Object)}
+     */
+    void detach(Object previous);
+}
@@ -0,0 +1,311 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.future;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static me.hltj.vertx.FutureUtils.joinWrap;
+
+/**
+ * An asynchronous cache of {@link Future}s with LRU eviction and warm-start snapshots.
+ * <p>
+ * {@link #get(Object, Function)} loads an absent key once, the concurrent callers of the same key share the same
+ * {@code Future} while it is loading. A {@code Future} that fails is removed from the cache when it fails.
+ * <p>
+ * The succeeded entries can be written to a compact binary snapshot file by
+ * {@link #writeSnapshot(Path, SnapshotCodec)}, e.g. on shutdown, and loaded by
+ * {@link #loadSnapshot(Path, SnapshotCodec)}, e.g. on startup. Loading a snapshot reads the file into a heap buffer
+ * and only decodes the keys, each value is decoded lazily on its first access. The snapshot methods do blocking file
+ * I/O, so they should be called on startup / shutdown or through {@code executeBlocking}.
+ * <p>
+ * The count of entries, including the snapshot entries that have not been decoded yet, never exceeds the max size.
+ * The snapshot entries that have not been decoded yet are evicted before the decoded ones.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public final class FutureCache<K, V> {
+    private static final int MAGIC = 0x56465543;
+    private static final int VERSION = 1;
+
+    private final int maxSize;
+    private final LinkedHashMap<K, Future<V>> futures;
+    // in the order of the snapshot file, the eldest first
+    private LinkedHashMap<K, Long> snapshotIndex = new LinkedHashMap<>();
+    private ByteBuffer snapshot = null;
+    private SnapshotCodec<K, V> snapshotCodec = null;
+
+    private FutureCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+
+        this.maxSize = maxSize;
+        this.futures = new LinkedHashMap<K, Future<V>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Future<V>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Create a {@link FutureCache} that evicts the least recently used entries beyond {@code maxSize}.
+     *
+     * @param maxSize the max count of entries
+     * @param <K>     the type of the keys
+     * @param <V>     the type of the values
+     * @return the {@code FutureCache}
+     */
+    public static <K, V> FutureCache<K, V> of(int maxSize) {
+        return new FutureCache<>(maxSize);
+    }
+
+    /**
+     * Return the cached {@link Future} of the {@code key}, or load it by the {@code loader} if absent.
+     * <p>
+     * The {@code loader} is called through {@link me.hltj.vertx.FutureUtils#joinWrap(Object, Function)}, so a
+     * {@code loader} that throws a non-checked exception results in a failed {@code Future}, which is not cached.
+     * The {@code loader} is called outside the lock of the cache, so a slow {@code loader} doesn't block the other
+     * callers.
+     *
+     * @param key    the key
+     * @param loader the function to load the value of an absent key
+     * @return the {@code Future} of the value
+     */
+    public Future<V> get(K key, Function<K, Future<V>> loader) {
+        Promise<V> promise;
+        synchronized (this) {
+            Future<V> future = getIfPresent(key);
+            if (future != null) {
+                return future;
+            }
+
+            promise = Promise.promise();
+            putFuture(key, promise.future());
+        }
+
+        Future<V> loaded = promise.future();
+        loaded.onFailure(_t -> {
+            synchronized (this) {
+                futures.remove(key, loaded);
+            }
+        });
+        joinWrap(key, loader).onComplete(promise);
+        return loaded;
+    }
+
+    /**
+     * Return the cached {@link Future} of the {@code key}, or {@code null} if absent.
+     *
+     * @param key the key
+     * @return the {@code Future} of the value, or {@code null}
+     */
+    public synchronized Future<V> getIfPresent(K key) {
+        Future<V> future = futures.get(key);
+        if (future == null && snapshotIndex.containsKey(key)) {
+            future = decodeSnapshotEntry(key, snapshotIndex.remove(key));
+        }
+
+        return future;
+    }
+
+    /**
+     * Put a value to the cache.
+     *
+     * @param key   the key
+     * @param value the value
+     */
+    public synchronized void put(K key, V value) {
+        snapshotIndex.remove(key);
+        putFuture(key, Future.succeededFuture(value));
+    }
+
+    /**
+     * Remove an entry from the cache.
+     *
+     * @param key the key
+     */
+    public synchronized void invalidate(K key) {
+        snapshotIndex.remove(key);
+        futures.remove(key);
+    }
+
+    /**
+     * Return the count of entries, including the entries of the loaded snapshot that have not been decoded yet.
+     */
+    public synchronized int size() {
+        return futures.size() + snapshotIndex.size();
+    }
+
+    /**
+     * Write the succeeded entries to a snapshot file.
+     * <p>
+     * The pending and failed entries are skipped. The entries of the loaded snapshot that have not been decoded yet
+     * are copied as is, before the other entries as they are the least recently used. The file is written to a
+     * temporary file first and then moved to {@code path}.
+     *
+     * @param path  the path of the snapshot file
+     * @param codec the codec to encode the entries
+     * @throws IOException if an I/O error occurs
+     */
+    public synchronized void writeSnapshot(Path path, SnapshotCodec<K, V> codec) throws IOException {
+        List<ByteBuffer> buffers = new ArrayList<>();
+        int count = 0;
+        for (Map.Entry<K, Long> entry : snapshotIndex.entrySet()) {
+            buffers.add(lengthPrefixed(codec.encodeKey(entry.getKey())));
+            ByteBuffer value = slice(entry.getValue());
+            ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + value.remaining());
+            buffer.putInt(value.remaining()).put(value).flip();
+            buffers.add(buffer);
+            count++;
+        }
+        for (Map.Entry<K, Future<V>> entry : futures.entrySet()) {
+            Future<V> future = entry.getValue();
+            if (future.succeeded()) {
+                buffers.add(lengthPrefixed(codec.encodeKey(entry.getKey())));
+                buffers.add(lengthPrefixed(codec.encodeValue(future.result())));
+                count++;
+            }
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(Integer.BYTES * 3);
+        header.putInt(MAGIC).putInt(VERSION).putInt(count).flip();
+        buffers.add(0, header);
+
+        Path temp = Files.createTempFile(path.toAbsolutePath().getParent(), path.getFileName().toString(), ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            for (ByteBuffer buffer : buffers) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Load a snapshot file written by {@link #writeSnapshot(Path, SnapshotCodec)}.
+     * <p>
+     * Only the keys are decoded when loading, each value is decoded on its first access. The entries already in the
+     * cache take precedence over the snapshot entries with the same keys. An entry whose value fails to decode is
+     * treated as absent. If there are more entries than the max size, the eldest snapshot entries are dropped.
+     *
+     * @param path  the path of the snapshot file
+     * @param codec the codec to decode the entries
+     * @throws IOException if an I/O error occurs or the file is not a valid snapshot
+     */
+    public void loadSnapshot(Path path, SnapshotCodec<K, V> codec) throws IOException {
+        // read into a heap buffer and decode the keys outside the lock, so that the blocking I/O doesn't block the
+        // other callers, and no mapping of the file outlives this call to hold the file open
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+        LinkedHashMap<K, Long> index = new LinkedHashMap<>();
+        try {
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IOException("not a valid snapshot file: " + path);
+            }
+
+            int count = buffer.getInt();
+            for (int i = 0; i < count; i++) {
+                int keyLength = buffer.getInt();
+                K key = codec.decodeKey(slice(buffer, buffer.position(), keyLength));
+                buffer.position(buffer.position() + keyLength);
+
+                int valueLength = buffer.getInt();
+                index.put(key, (long) buffer.position() << 32 | valueLength);
+                if (index.size() > maxSize) {
+                    index.remove(index.keySet().iterator().next());
+                }
+                buffer.position(buffer.position() + valueLength);
+            }
+        } catch (RuntimeException e) {
+            throw new IOException("not a valid snapshot file: " + path, e);
+        }
+
+        synchronized (this) {
+            index.keySet().removeAll(futures.keySet());
+            snapshot = buffer;
+            snapshotCodec = codec;
+            snapshotIndex = index;
+            trimSnapshotIndex();
+        }
+    }
+
+    private void putFuture(K key, Future<V> future) {
+        futures.put(key, future);
+        trimSnapshotIndex();
+    }
+
+    private void trimSnapshotIndex() {
+        Iterator<K> iterator = snapshotIndex.keySet().iterator();
+        while (futures.size() + snapshotIndex.size() > maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private Future<V> decodeSnapshotEntry(K key, long position) {
+        V value;
+        try {
+            value = snapshotCodec.decodeValue(slice(position));
+        } catch (RuntimeException e) {
+            return null;
+        }
+
+        Future<V> future = Future.succeededFuture(value);
+        futures.put(key, future);
+        return future;
+    }
+
+    private ByteBuffer slice(long position) {
+        return slice(snapshot, (int) (position >>> 32), (int) position);
+    }
+
+    private static ByteBuffer slice(ByteBuffer buffer, int offset, int length) {
+        ByteBuffer duplicate = buffer.asReadOnlyBuffer();
+        duplicate.position(offset);
+        duplicate.limit(offset + length);
+        return duplicate.slice();
+    }
+
+    private static ByteBuffer lengthPrefixed(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + bytes.length);
+        buffer.putInt(bytes.length).put(bytes).flip();
+        return buffer;
+    }
+}
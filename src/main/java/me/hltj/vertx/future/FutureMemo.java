@@ -0,0 +1,104 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.future;
+
+import io.vertx.core.Future;
+import me.hltj.vertx.FutureUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * A memo of {@link Future}s by key, usually scoped to a request.
+ * <p>
+ * Within a memo, {@link #joinWrap(Object, Supplier)} evaluates the supplier of each key only once, and the later
+ * calls with the same key return the same {@code Future}. e.g. :
+ *
+ * <pre>
+ *     FutureMemo memo = FutureMemo.create();
+ *     Future&lt;User&gt; user0 = memo.joinWrap("user:" + id, () -&gt; userDao.find(id));
+ *     Future&lt;User&gt; user1 = memo.joinWrap("user:" + id, () -&gt; userDao.find(id)); // the same future as user0
+ * </pre>
+ * <p>
+ * A memo is an explicit scope object created by {@link #create()} for each request and passed along with it. It is
+ * deliberately not stored on the Vert.x context, as a context is shared by all the requests interleaving on it.
+ * <p>
+ * A memo is not thread-safe, it should be used on a single Vert.x context.
+ */
+public final class FutureMemo {
+    private final Map<Object, Future<?>> futures = new HashMap<>();
+
+    private FutureMemo() {
+    }
+
+    /**
+     * Create an explicit scope {@link FutureMemo}.
+     */
+    public static FutureMemo create() {
+        return new FutureMemo();
+    }
+
+    /**
+     * Alias for {@link #joinWrap(Object, Supplier)}.
+     */
+    public <R> Future<R> flatWrap(Object key, Supplier<Future<R>> supplier) {
+        return joinWrap(key, supplier);
+    }
+
+    /**
+     * Evaluate the {@code supplier} by {@link FutureUtils#joinWrap(Supplier)} only if the {@code key} has not been
+     * evaluated in this memo, otherwise return the {@link Future} evaluated before.
+     * <p>
+     * A {@code Future} is memoized no matter whether it will succeed or fail.
+     *
+     * @param key      the key
+     * @param supplier the evaluation
+     * @param <R>      the type parameter for the result {@code Future}
+     * @return the memoized {@code Future}
+     */
+    @SuppressWarnings("unchecked")
+    public <R> Future<R> joinWrap(Object key, Supplier<Future<R>> supplier) {
+        Future<R> future = (Future<R>) futures.get(key);
+        if (future == null) {
+            future = FutureUtils.joinWrap(supplier);
+            futures.put(key, future);
+        }
+
+        return future;
+    }
+
+    /**
+     * Return the count of memoized {@link Future}s.
+     */
+    public int size() {
+        return futures.size();
+    }
+
+    /**
+     * Remove all memoized {@link Future}s.
+     */
+    public void clear() {
+        futures.clear();
+    }
+}
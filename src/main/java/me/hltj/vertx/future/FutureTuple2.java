@@ -30,12 +30,14 @@ import lombok.Getter;
 import lombok.ToString;
 import lombok.experimental.FieldDefaults;
 import me.hltj.vertx.FutureUtils;
+import me.hltj.vertx.metrics.Metrics;
 
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
-import static me.hltj.vertx.FutureUtils.defaultWith;
-import static me.hltj.vertx.FutureUtils.fallbackWith;
+import static me.hltj.vertx.future.InternalUtil.defaultWith;
+import static me.hltj.vertx.future.InternalUtil.fallbackWith;
 import static me.hltj.vertx.future.InternalUtil.toFailureMapper;
 import static me.hltj.vertx.future.InternalUtil.toSupplier;
 
@@ -53,6 +55,23 @@ public final class FutureTuple2<T0, T1> {
     Future<T0> _0;
     Future<T1> _1;
 
+    /**
+     * Create a {@link LazyFutureTuple2} with two {@link Future} suppliers.
+     * <p>
+     * Unlike {@link #of(Future, Future)}, no supplier is called until the returned lazy tuple is started.
+     *
+     * @param supplier0 the supplier of the 1st {@code Future}
+     * @param supplier1 the supplier of the 2nd {@code Future}
+     * @param <T0>      the type parameter of the 1st {@code Future}
+     * @param <T1>      the type parameter of the 2nd {@code Future}
+     * @return the {@code LazyFutureTuple2}
+     */
+    public static <T0, T1> LazyFutureTuple2<T0, T1> lazy(
+            Supplier<Future<T0>> supplier0, Supplier<Future<T1>> supplier1
+    ) {
+        return LazyFutureTuple2.of(supplier0, supplier1);
+    }
+
     /**
      * Map the result of the {@link Future}s to {@code null}s.
      * <p>
@@ -113,7 +132,8 @@ public final class FutureTuple2<T0, T1> {
      * @return the mapped {@code Future}s
      */
     public FutureTuple2<T0, T1> defaults(T0 v0, T1 v1) {
-        return of(defaultWith(_0, v0), defaultWith(_1, v1));
+        String operation = "FutureTuple2.defaults";
+        return of(defaultWith(operation, _0, v0), defaultWith(operation, _1, v1));
     }
 
     /**
@@ -129,9 +149,10 @@ public final class FutureTuple2<T0, T1> {
      * @return the mapped {@code Future}s
      */
     public FutureTuple2<T0, T1> defaults(Runnable onEmpty, T0 v0, T1 v1) {
+        String operation = "FutureTuple2.defaults";
         return of(
-                FutureUtils.defaultWith(_0, toSupplier(onEmpty, v0)),
-                FutureUtils.defaultWith(_1, toSupplier(onEmpty, v1))
+                defaultWith(operation, _0, toSupplier(onEmpty, v0)),
+                defaultWith(operation, _1, toSupplier(onEmpty, v1))
         );
     }
 
@@ -145,7 +166,8 @@ public final class FutureTuple2<T0, T1> {
      * @return the mapped {@code Future}s
      */
     public FutureTuple2<T0, T1> fallback(T0 v0, T1 v1) {
-        return of(fallbackWith(_0, v0), fallbackWith(_1, v1));
+        String operation = "FutureTuple2.fallback";
+        return of(fallbackWith(operation, _0, v0), fallbackWith(operation, _1, v1));
     }
 
     /**
@@ -163,9 +185,10 @@ public final class FutureTuple2<T0, T1> {
      * @return the mapped {@code Future}s
      */
     public FutureTuple2<T0, T1> fallback(Consumer<Throwable> onFailure, Runnable onEmpty, T0 v0, T1 v1) {
+        String operation = "FutureTuple2.fallback";
         return of(
-                fallbackWith(_0, toFailureMapper(onFailure, v0), toSupplier(onEmpty, v0)),
-                fallbackWith(_1, toFailureMapper(onFailure, v1), toSupplier(onEmpty, v1))
+                fallbackWith(operation, _0, toFailureMapper(onFailure, v0), toSupplier(onEmpty, v0)),
+                fallbackWith(operation, _1, toFailureMapper(onFailure, v1), toSupplier(onEmpty, v1))
         );
     }
 
@@ -203,6 +226,7 @@ public final class FutureTuple2<T0, T1> {
      * @return the {@code CompositeFutureTuple2}
      */
     public CompositeFutureTuple2<T0, T1> compose(BiFunction<Future<T0>, Future<T1>, CompositeFuture> function2) {
-        return CompositeFutureTuple2.of(this, function2.apply(_0, _1));
+        CompositeFuture composite = function2.apply(_0, _1);
+        return CompositeFutureTuple2.of(this, Metrics.assembled("FutureTuple2.compose", composite));
     }
 }
@@ -31,12 +31,14 @@ import lombok.ToString;
 import lombok.experimental.FieldDefaults;
 import me.hltj.vertx.FutureUtils;
 import me.hltj.vertx.function.Function3;
+import me.hltj.vertx.metrics.Metrics;
 
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
-import static me.hltj.vertx.FutureUtils.defaultWith;
-import static me.hltj.vertx.FutureUtils.fallbackWith;
+import static me.hltj.vertx.future.InternalUtil.defaultWith;
+import static me.hltj.vertx.future.InternalUtil.fallbackWith;
 import static me.hltj.vertx.future.InternalUtil.toFailureMapper;
 import static me.hltj.vertx.future.InternalUtil.toSupplier;
 
@@ -56,6 +58,17 @@ public final class FutureTuple3<T0, T1, T2> {
     Future<T1> _1;
     Future<T2> _2;
 
+    /**
+     * Create a {@link LazyFutureTuple3} with 3 {@link Future} suppliers.
+     * <p>
+     * It likes {@link FutureTuple2#lazy(Supplier, Supplier)} but with 3-arity.
+     */
+    public static <T0, T1, T2> LazyFutureTuple3<T0, T1, T2> lazy(
+            Supplier<Future<T0>> supplier0, Supplier<Future<T1>> supplier1, Supplier<Future<T2>> supplier2
+    ) {
+        return LazyFutureTuple3.of(supplier0, supplier1, supplier2);
+    }
+
     /**
      * Map the result of the {@link Future}s to {@code null}s.
      * <p>
@@ -102,7 +115,8 @@ public final class FutureTuple3<T0, T1, T2> {
      * It likes {@link FutureTuple2#defaults(Object, Object)} but with 3-arity.
      */
     public FutureTuple3<T0, T1, T2> defaults(T0 v0, T1 v1, T2 v2) {
-        return of(defaultWith(_0, v0), defaultWith(_1, v1), defaultWith(_2, v2));
+        String operation = "FutureTuple3.defaults";
+        return of(defaultWith(operation, _0, v0), defaultWith(operation, _1, v1), defaultWith(operation, _2, v2));
     }
 
     /**
@@ -111,10 +125,11 @@ public final class FutureTuple3<T0, T1, T2> {
      * It likes {@link FutureTuple2#defaults(Runnable, Object, Object)} but with 3-arity.
      */
     public FutureTuple3<T0, T1, T2> defaults(Runnable onEmpty, T0 v0, T1 v1, T2 v2) {
+        String operation = "FutureTuple3.defaults";
         return of(
-                FutureUtils.defaultWith(_0, toSupplier(onEmpty, v0)),
-                FutureUtils.defaultWith(_1, toSupplier(onEmpty, v1)),
-                FutureUtils.defaultWith(_2, toSupplier(onEmpty, v2))
+                defaultWith(operation, _0, toSupplier(onEmpty, v0)),
+                defaultWith(operation, _1, toSupplier(onEmpty, v1)),
+                defaultWith(operation, _2, toSupplier(onEmpty, v2))
         );
     }
 
@@ -124,7 +139,8 @@ public final class FutureTuple3<T0, T1, T2> {
      * It likes {@link FutureTuple2#fallback(Object, Object)} but with 3-arity.
      */
     public FutureTuple3<T0, T1, T2> fallback(T0 v0, T1 v1, T2 v2) {
-        return of(fallbackWith(_0, v0), fallbackWith(_1, v1), fallbackWith(_2, v2));
+        String operation = "FutureTuple3.fallback";
+        return of(fallbackWith(operation, _0, v0), fallbackWith(operation, _1, v1), fallbackWith(operation, _2, v2));
     }
 
     /**
@@ -134,10 +150,11 @@ public final class FutureTuple3<T0, T1, T2> {
      * It likes {@link FutureTuple2#fallback(Consumer, Runnable, Object, Object)} but with 3-arity.
      */
     public FutureTuple3<T0, T1, T2> fallback(Consumer<Throwable> onFailure, Runnable onEmpty, T0 v0, T1 v1, T2 v2) {
+        String operation = "FutureTuple3.fallback";
         return of(
-                fallbackWith(_0, toFailureMapper(onFailure, v0), toSupplier(onEmpty, v0)),
-                fallbackWith(_1, toFailureMapper(onFailure, v1), toSupplier(onEmpty, v1)),
-                fallbackWith(_2, toFailureMapper(onFailure, v2), toSupplier(onEmpty, v2))
+                fallbackWith(operation, _0, toFailureMapper(onFailure, v0), toSupplier(onEmpty, v0)),
+                fallbackWith(operation, _1, toFailureMapper(onFailure, v1), toSupplier(onEmpty, v1)),
+                fallbackWith(operation, _2, toFailureMapper(onFailure, v2), toSupplier(onEmpty, v2))
         );
     }
 
@@ -179,6 +196,7 @@ public final class FutureTuple3<T0, T1, T2> {
     public CompositeFutureTuple3<T0, T1, T2> compose(
             Function3<Future<T0>, Future<T1>, Future<T2>, CompositeFuture> function3
     ) {
-        return CompositeFutureTuple3.of(this, function3.apply(_0, _1, _2));
+        CompositeFuture composite = function3.apply(_0, _1, _2);
+        return CompositeFutureTuple3.of(this, Metrics.assembled("FutureTuple3.compose", composite));
     }
 }
@@ -31,12 +31,14 @@ import lombok.ToString;
 import lombok.experimental.FieldDefaults;
 import me.hltj.vertx.FutureUtils;
 import me.hltj.vertx.function.Function4;
+import me.hltj.vertx.metrics.Metrics;
 
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
-import static me.hltj.vertx.FutureUtils.defaultWith;
-import static me.hltj.vertx.FutureUtils.fallbackWith;
+import static me.hltj.vertx.future.InternalUtil.defaultWith;
+import static me.hltj.vertx.future.InternalUtil.fallbackWith;
 import static me.hltj.vertx.future.InternalUtil.toFailureMapper;
 import static me.hltj.vertx.future.InternalUtil.toSupplier;
 
@@ -58,6 +60,18 @@ public final class FutureTuple4<T0, T1, T2, T3> {
     Future<T2> _2;
     Future<T3> _3;
 
+    /**
+     * Create a {@link LazyFutureTuple4} with 4 {@link Future} suppliers.
+     * <p>
+     * It likes {@link FutureTuple2#lazy(Supplier, Supplier)} but with 4-arity.
+     */
+    public static <T0, T1, T2, T3> LazyFutureTuple4<T0, T1, T2, T3> lazy(
+            Supplier<Future<T0>> supplier0, Supplier<Future<T1>> supplier1, Supplier<Future<T2>> supplier2,
+            Supplier<Future<T3>> supplier3
+    ) {
+        return LazyFutureTuple4.of(supplier0, supplier1, supplier2, supplier3);
+    }
+
     /**
      * Map the result of the {@link Future}s to {@code null}s.
      * <p>
@@ -105,7 +119,11 @@ public final class FutureTuple4<T0, T1, T2, T3> {
      * It likes {@link FutureTuple2#defaults(Object, Object)} but with 4-arity.
      */
     public FutureTuple4<T0, T1, T2, T3> defaults(T0 v0, T1 v1, T2 v2, T3 v3) {
-        return of(defaultWith(_0, v0), defaultWith(_1, v1), defaultWith(_2, v2), defaultWith(_3, v3));
+        String operation = "FutureTuple4.defaults";
+        return of(
+                defaultWith(operation, _0, v0), defaultWith(operation, _1, v1), defaultWith(operation, _2, v2),
+                defaultWith(operation, _3, v3)
+        );
     }
 
     /**
@@ -114,11 +132,12 @@ public final class FutureTuple4<T0, T1, T2, T3> {
      * It likes {@link FutureTuple2#defaults(Runnable, Object, Object)} but with 4-arity.
      */
     public FutureTuple4<T0, T1, T2, T3> defaults(Runnable onEmpty, T0 v0, T1 v1, T2 v2, T3 v3) {
+        String operation = "FutureTuple4.defaults";
         return of(
-                FutureUtils.defaultWith(_0, toSupplier(onEmpty, v0)),
-                FutureUtils.defaultWith(_1, toSupplier(onEmpty, v1)),
-                FutureUtils.defaultWith(_2, toSupplier(onEmpty, v2)),
-                FutureUtils.defaultWith(_3, toSupplier(onEmpty, v3))
+                defaultWith(operation, _0, toSupplier(onEmpty, v0)),
+                defaultWith(operation, _1, toSupplier(onEmpty, v1)),
+                defaultWith(operation, _2, toSupplier(onEmpty, v2)),
+                defaultWith(operation, _3, toSupplier(onEmpty, v3))
         );
     }
 
@@ -128,7 +147,11 @@ public final class FutureTuple4<T0, T1, T2, T3> {
      * It likes {@link FutureTuple2#fallback(Object, Object)} but with 4-arity.
      */
     public FutureTuple4<T0, T1, T2, T3> fallback(T0 v0, T1 v1, T2 v2, T3 v3) {
-        return of(fallbackWith(_0, v0), fallbackWith(_1, v1), fallbackWith(_2, v2), fallbackWith(_3, v3));
+        String operation = "FutureTuple4.fallback";
+        return of(
+                fallbackWith(operation, _0, v0), fallbackWith(operation, _1, v1), fallbackWith(operation, _2, v2),
+                fallbackWith(operation, _3, v3)
+        );
     }
 
     /**
@@ -140,11 +163,12 @@ public final class FutureTuple4<T0, T1, T2, T3> {
     public FutureTuple4<T0, T1, T2, T3> fallback(
             Consumer<Throwable> onFailure, Runnable onEmpty, T0 v0, T1 v1, T2 v2, T3 v3
     ) {
+        String operation = "FutureTuple4.fallback";
         return of(
-                fallbackWith(_0, toFailureMapper(onFailure, v0), toSupplier(onEmpty, v0)),
-                fallbackWith(_1, toFailureMapper(onFailure, v1), toSupplier(onEmpty, v1)),
-                fallbackWith(_2, toFailureMapper(onFailure, v2), toSupplier(onEmpty, v2)),
-                fallbackWith(_3, toFailureMapper(onFailure, v3), toSupplier(onEmpty, v3))
+                fallbackWith(operation, _0, toFailureMapper(onFailure, v0), toSupplier(onEmpty, v0)),
+                fallbackWith(operation, _1, toFailureMapper(onFailure, v1), toSupplier(onEmpty, v1)),
+                fallbackWith(operation, _2, toFailureMapper(onFailure, v2), toSupplier(onEmpty, v2)),
+                fallbackWith(operation, _3, toFailureMapper(onFailure, v3), toSupplier(onEmpty, v3))
         );
     }
 
@@ -186,6 +210,7 @@ public final class FutureTuple4<T0, T1, T2, T3> {
     public CompositeFutureTuple4<T0, T1, T2, T3> compose(
             Function4<Future<T0>, Future<T1>, Future<T2>, Future<T3>, CompositeFuture> function4
     ) {
-        return CompositeFutureTuple4.of(this, function4.apply(_0, _1, _2, _3));
+        CompositeFuture composite = function4.apply(_0, _1, _2, _3);
+        return CompositeFutureTuple4.of(this, Metrics.assembled("FutureTuple4.compose", composite));
     }
 }
@@ -31,12 +31,14 @@ import lombok.ToString;
 import lombok.experimental.FieldDefaults;
 import me.hltj.vertx.FutureUtils;
 import me.hltj.vertx.function.Function6;
+import me.hltj.vertx.metrics.Metrics;
 
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
-import static me.hltj.vertx.FutureUtils.defaultWith;
-import static me.hltj.vertx.FutureUtils.fallbackWith;
+import static me.hltj.vertx.future.InternalUtil.defaultWith;
+import static me.hltj.vertx.future.InternalUtil.fallbackWith;
 import static me.hltj.vertx.future.InternalUtil.toFailureMapper;
 import static me.hltj.vertx.future.InternalUtil.toSupplier;
 
@@ -62,6 +64,18 @@ public final class FutureTuple6<T0, T1, T2, T3, T4, T5> {
     Future<T4> _4;
     Future<T5> _5;
 
+    /**
+     * Create a {@link LazyFutureTuple6} with 6 {@link Future} suppliers.
+     * <p>
+     * It likes {@link FutureTuple2#lazy(Supplier, Supplier)} but with 6-arity.
+     */
+    public static <T0, T1, T2, T3, T4, T5> LazyFutureTuple6<T0, T1, T2, T3, T4, T5> lazy(
+            Supplier<Future<T0>> supplier0, Supplier<Future<T1>> supplier1, Supplier<Future<T2>> supplier2,
+            Supplier<Future<T3>> supplier3, Supplier<Future<T4>> supplier4, Supplier<Future<T5>> supplier5
+    ) {
+        return LazyFutureTuple6.of(supplier0, supplier1, supplier2, supplier3, supplier4, supplier5);
+    }
+
     /**
      * Map the result of the {@link Future}s to {@code null}s.
      * <p>
@@ -119,9 +133,10 @@ public final class FutureTuple6<T0, T1, T2, T3, T4, T5> {
      * It likes {@link FutureTuple2#defaults(Object, Object)} but with 6-arity.
      */
     public FutureTuple6<T0, T1, T2, T3, T4, T5> defaults(T0 v0, T1 v1, T2 v2, T3 v3, T4 v4, T5 v5) {
+        String operation = "FutureTuple6.defaults";
         return of(
-                defaultWith(_0, v0), defaultWith(_1, v1), defaultWith(_2, v2), defaultWith(_3, v3), defaultWith(_4, v4),
-                defaultWith(_5, v5)
+                defaultWith(operation, _0, v0), defaultWith(operation, _1, v1), defaultWith(operation, _2, v2),
+                defaultWith(operation, _3, v3), defaultWith(operation, _4, v4), defaultWith(operation, _5, v5)
         );
     }
 
@@ -131,13 +146,14 @@ public final class FutureTuple6<T0, T1, T2, T3, T4, T5> {
      * It likes {@link FutureTuple2#defaults(Runnable, Object, Object)} but with 6-arity.
      */
     public FutureTuple6<T0, T1, T2, T3, T4, T5> defaults(Runnable onEmpty, T0 v0, T1 v1, T2 v2, T3 v3, T4 v4, T5 v5) {
+        String operation = "FutureTuple6.defaults";
         return of(
-                FutureUtils.defaultWith(_0, toSupplier(onEmpty, v0)),
-                FutureUtils.defaultWith(_1, toSupplier(onEmpty, v1)),
-                FutureUtils.defaultWith(_2, toSupplier(onEmpty, v2)),
-                FutureUtils.defaultWith(_3, toSupplier(onEmpty, v3)),
-                FutureUtils.defaultWith(_4, toSupplier(onEmpty, v4)),
-                FutureUtils.defaultWith(_5, toSupplier(onEmpty, v5))
+                defaultWith(operation, _0, toSupplier(onEmpty, v0)),
+                defaultWith(operation, _1, toSupplier(onEmpty, v1)),
+                defaultWith(operation, _2, toSupplier(onEmpty, v2)),
+                defaultWith(operation, _3, toSupplier(onEmpty, v3)),
+                defaultWith(operation, _4, toSupplier(onEmpty, v4)),
+                defaultWith(operation, _5, toSupplier(onEmpty, v5))
         );
     }
 
@@ -147,9 +163,10 @@ public final class FutureTuple6<T0, T1, T2, T3, T4, T5> {
      * It likes {@link FutureTuple2#fallback(Object, Object)} but with 6-arity.
      */
     public FutureTuple6<T0, T1, T2, T3, T4, T5> fallback(T0 v0, T1 v1, T2 v2, T3 v3, T4 v4, T5 v5) {
+        String operation = "FutureTuple6.fallback";
         return of(
-                fallbackWith(_0, v0), fallbackWith(_1, v1), fallbackWith(_2, v2), fallbackWith(_3, v3),
-                fallbackWith(_4, v4), fallbackWith(_5, v5)
+                fallbackWith(operation, _0, v0), fallbackWith(operation, _1, v1), fallbackWith(operation, _2, v2),
+                fallbackWith(operation, _3, v3), fallbackWith(operation, _4, v4), fallbackWith(operation, _5, v5)
         );
     }
 
@@ -162,13 +179,14 @@ public final class FutureTuple6<T0, T1, T2, T3, T4, T5> {
     public FutureTuple6<T0, T1, T2, T3, T4, T5> fallback(
             Consumer<Throwable> onFailure, Runnable onEmpty, T0 v0, T1 v1, T2 v2, T3 v3, T4 v4, T5 v5
     ) {
+        String operation = "FutureTuple6.fallback";
         return of(
-                fallbackWith(_0, toFailureMapper(onFailure, v0), toSupplier(onEmpty, v0)),
-                fallbackWith(_1, toFailureMapper(onFailure, v1), toSupplier(onEmpty, v1)),
-                fallbackWith(_2, toFailureMapper(onFailure, v2), toSupplier(onEmpty, v2)),
-                fallbackWith(_3, toFailureMapper(onFailure, v3), toSupplier(onEmpty, v3)),
-                fallbackWith(_4, toFailureMapper(onFailure, v4), toSupplier(onEmpty, v4)),
-                fallbackWith(_5, toFailureMapper(onFailure, v5), toSupplier(onEmpty, v5))
+                fallbackWith(operation, _0, toFailureMapper(onFailure, v0), toSupplier(onEmpty, v0)),
+                fallbackWith(operation, _1, toFailureMapper(onFailure, v1), toSupplier(onEmpty, v1)),
+                fallbackWith(operation, _2, toFailureMapper(onFailure, v2), toSupplier(onEmpty, v2)),
+                fallbackWith(operation, _3, toFailureMapper(onFailure, v3), toSupplier(onEmpty, v3)),
+                fallbackWith(operation, _4, toFailureMapper(onFailure, v4), toSupplier(onEmpty, v4)),
+                fallbackWith(operation, _5, toFailureMapper(onFailure, v5), toSupplier(onEmpty, v5))
         );
     }
 
@@ -210,6 +228,7 @@ public final class FutureTuple6<T0, T1, T2, T3, T4, T5> {
     public CompositeFutureTuple6<T0, T1, T2, T3, T4, T5> compose(
             Function6<Future<T0>, Future<T1>, Future<T2>, Future<T3>, Future<T4>, Future<T5>, CompositeFuture> function6
     ) {
-        return CompositeFutureTuple6.of(this, function6.apply(_0, _1, _2, _3, _4, _5));
+        CompositeFuture composite = function6.apply(_0, _1, _2, _3, _4, _5);
+        return CompositeFutureTuple6.of(this, Metrics.assembled("FutureTuple6.compose", composite));
     }
 }
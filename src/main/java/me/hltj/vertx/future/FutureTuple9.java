@@ -31,14 +31,16 @@ import lombok.ToString;
 import lombok.experimental.FieldDefaults;
 import me.hltj.vertx.FutureUtils;
 import me.hltj.vertx.function.Function9;
+import me.hltj.vertx.metrics.Metrics;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
-import static me.hltj.vertx.FutureUtils.defaultWith;
-import static me.hltj.vertx.FutureUtils.fallbackWith;
+import static me.hltj.vertx.future.InternalUtil.defaultWith;
+import static me.hltj.vertx.future.InternalUtil.fallbackWith;
 import static me.hltj.vertx.future.InternalUtil.toFailureMapper;
 import static me.hltj.vertx.future.InternalUtil.toSupplier;
 
@@ -70,6 +72,21 @@ public final class FutureTuple9<T0, T1, T2, T3, T4, T5, T6, T7, T8> {
     Future<T7> _7;
     Future<T8> _8;
 
+    /**
+     * Create a {@link LazyFutureTuple9} with 9 {@link Future} suppliers.
+     * <p>
+     * It likes {@link FutureTuple2#lazy(Supplier, Supplier)} but with 9-arity.
+     */
+    public static <T0, T1, T2, T3, T4, T5, T6, T7, T8> LazyFutureTuple9<T0, T1, T2, T3, T4, T5, T6, T7, T8> lazy(
+            Supplier<Future<T0>> supplier0, Supplier<Future<T1>> supplier1, Supplier<Future<T2>> supplier2,
+            Supplier<Future<T3>> supplier3, Supplier<Future<T4>> supplier4, Supplier<Future<T5>> supplier5,
+            Supplier<Future<T6>> supplier6, Supplier<Future<T7>> supplier7, Supplier<Future<T8>> supplier8
+    ) {
+        return LazyFutureTuple9.of(
+                supplier0, supplier1, supplier2, supplier3, supplier4, supplier5, supplier6, supplier7, supplier8
+        );
+    }
+
     /**
      * Map the result of the {@link Future}s to {@code null}s.
      * <p>
@@ -137,9 +154,11 @@ public final class FutureTuple9<T0, T1, T2, T3, T4, T5, T6, T7, T8> {
     public FutureTuple9<T0, T1, T2, T3, T4, T5, T6, T7, T8> defaults(
             T0 v0, T1 v1, T2 v2, T3 v3, T4 v4, T5 v5, T6 v6, T7 v7, T8 v8
     ) {
+        String operation = "FutureTuple9.defaults";
         return of(
-                defaultWith(_0, v0), defaultWith(_1, v1), defaultWith(_2, v2), defaultWith(_3, v3), defaultWith(_4, v4),
-                defaultWith(_5, v5), defaultWith(_6, v6), defaultWith(_7, v7), defaultWith(_8, v8)
+                defaultWith(operation, _0, v0), defaultWith(operation, _1, v1), defaultWith(operation, _2, v2),
+                defaultWith(operation, _3, v3), defaultWith(operation, _4, v4), defaultWith(operation, _5, v5),
+                defaultWith(operation, _6, v6), defaultWith(operation, _7, v7), defaultWith(operation, _8, v8)
         );
     }
 
@@ -151,16 +170,17 @@ public final class FutureTuple9<T0, T1, T2, T3, T4, T5, T6, T7, T8> {
     public FutureTuple9<T0, T1, T2, T3, T4, T5, T6, T7, T8> defaults(
             Runnable onEmpty, T0 v0, T1 v1, T2 v2, T3 v3, T4 v4, T5 v5, T6 v6, T7 v7, T8 v8
     ) {
+        String operation = "FutureTuple9.defaults";
         return of(
-                FutureUtils.defaultWith(_0, toSupplier(onEmpty, v0)),
-                FutureUtils.defaultWith(_1, toSupplier(onEmpty, v1)),
-                FutureUtils.defaultWith(_2, toSupplier(onEmpty, v2)),
-                FutureUtils.defaultWith(_3, toSupplier(onEmpty, v3)),
-                FutureUtils.defaultWith(_4, toSupplier(onEmpty, v4)),
-                FutureUtils.defaultWith(_5, toSupplier(onEmpty, v5)),
-                FutureUtils.defaultWith(_6, toSupplier(onEmpty, v6)),
-                FutureUtils.defaultWith(_7, toSupplier(onEmpty, v7)),
-                FutureUtils.defaultWith(_8, toSupplier(onEmpty, v8))
+                defaultWith(operation, _0, toSupplier(onEmpty, v0)),
+                defaultWith(operation, _1, toSupplier(onEmpty, v1)),
+                defaultWith(operation, _2, toSupplier(onEmpty, v2)),
+                defaultWith(operation, _3, toSupplier(onEmpty, v3)),
+                defaultWith(operation, _4, toSupplier(onEmpty, v4)),
+                defaultWith(operation, _5, toSupplier(onEmpty, v5)),
+                defaultWith(operation, _6, toSupplier(onEmpty, v6)),
+                defaultWith(operation, _7, toSupplier(onEmpty, v7)),
+                defaultWith(operation, _8, toSupplier(onEmpty, v8))
         );
     }
 
@@ -172,10 +192,11 @@ public final class FutureTuple9<T0, T1, T2, T3, T4, T5, T6, T7, T8> {
     public FutureTuple9<T0, T1, T2, T3, T4, T5, T6, T7, T8> fallback(
             T0 v0, T1 v1, T2 v2, T3 v3, T4 v4, T5 v5, T6 v6, T7 v7, T8 v8
     ) {
+        String operation = "FutureTuple9.fallback";
         return of(
-                fallbackWith(_0, v0), fallbackWith(_1, v1), fallbackWith(_2, v2), fallbackWith(_3, v3),
-                fallbackWith(_4, v4), fallbackWith(_5, v5), fallbackWith(_6, v6), fallbackWith(_7, v7),
-                fallbackWith(_8, v8)
+                fallbackWith(operation, _0, v0), fallbackWith(operation, _1, v1), fallbackWith(operation, _2, v2),
+                fallbackWith(operation, _3, v3), fallbackWith(operation, _4, v4), fallbackWith(operation, _5, v5),
+                fallbackWith(operation, _6, v6), fallbackWith(operation, _7, v7), fallbackWith(operation, _8, v8)
         );
     }
 
@@ -189,16 +210,17 @@ public final class FutureTuple9<T0, T1, T2, T3, T4, T5, T6, T7, T8> {
             Consumer<Throwable> onFailure, Runnable onEmpty,
             T0 v0, T1 v1, T2 v2, T3 v3, T4 v4, T5 v5, T6 v6, T7 v7, T8 v8
     ) {
+        String operation = "FutureTuple9.fallback";
         return of(
-                fallbackWith(_0, toFailureMapper(onFailure, v0), toSupplier(onEmpty, v0)),
-                fallbackWith(_1, toFailureMapper(onFailure, v1), toSupplier(onEmpty, v1)),
-                fallbackWith(_2, toFailureMapper(onFailure, v2), toSupplier(onEmpty, v2)),
-                fallbackWith(_3, toFailureMapper(onFailure, v3), toSupplier(onEmpty, v3)),
-                fallbackWith(_4, toFailureMapper(onFailure, v4), toSupplier(onEmpty, v4)),
-                fallbackWith(_5, toFailureMapper(onFailure, v5), toSupplier(onEmpty, v5)),
-                fallbackWith(_6, toFailureMapper(onFailure, v6), toSupplier(onEmpty, v6)),
-                fallbackWith(_7, toFailureMapper(onFailure, v7), toSupplier(onEmpty, v7)),
-                fallbackWith(_8, toFailureMapper(onFailure, v8), toSupplier(onEmpty, v8))
+                fallbackWith(operation, _0, toFailureMapper(onFailure, v0), toSupplier(onEmpty, v0)),
+                fallbackWith(operation, _1, toFailureMapper(onFailure, v1), toSupplier(onEmpty, v1)),
+                fallbackWith(operation, _2, toFailureMapper(onFailure, v2), toSupplier(onEmpty, v2)),
+                fallbackWith(operation, _3, toFailureMapper(onFailure, v3), toSupplier(onEmpty, v3)),
+                fallbackWith(operation, _4, toFailureMapper(onFailure, v4), toSupplier(onEmpty, v4)),
+                fallbackWith(operation, _5, toFailureMapper(onFailure, v5), toSupplier(onEmpty, v5)),
+                fallbackWith(operation, _6, toFailureMapper(onFailure, v6), toSupplier(onEmpty, v6)),
+                fallbackWith(operation, _7, toFailureMapper(onFailure, v7), toSupplier(onEmpty, v7)),
+                fallbackWith(operation, _8, toFailureMapper(onFailure, v8), toSupplier(onEmpty, v8))
         );
     }
 
@@ -244,6 +266,7 @@ public final class FutureTuple9<T0, T1, T2, T3, T4, T5, T6, T7, T8> {
             Function9<Future<T0>, Future<T1>, Future<T2>, Future<T3>, Future<T4>, Future<T5>, Future<T6>, Future<T7>,
                     Future<T8>, CompositeFuture> function9
     ) {
-        return CompositeFutureTuple9.of(this, function9.apply(_0, _1, _2, _3, _4, _5, _6, _7, _8));
+        CompositeFuture composite = function9.apply(_0, _1, _2, _3, _4, _5, _6, _7, _8);
+        return CompositeFutureTuple9.of(this, Metrics.assembled("FutureTuple9.compose", composite));
     }
 }
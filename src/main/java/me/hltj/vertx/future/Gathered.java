@@ -0,0 +1,245 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.future;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * The partial results of {@link Future}s gathered by a deadline, i.e. the indices and results of the succeeded
+ * {@code Future}s, and the indices of the failed and the pending ones, all in index order.
+ *
+ * @param <T> the type parameter of the {@code Future}s
+ */
+public final class Gathered<T> {
+    private static final byte PENDING = 0;
+    private static final byte SUCCEEDED = 1;
+    private static final byte FAILED = 2;
+
+    private final int[] indices;
+    private final Object[] values;
+    private final int[] failedIndices;
+    private final int[] pendingIndices;
+
+    private Gathered(byte[] states, Object[] results, int succeeded, int failed) {
+        this.indices = new int[succeeded];
+        this.values = new Object[succeeded];
+        this.failedIndices = new int[failed];
+        this.pendingIndices = new int[states.length - succeeded - failed];
+        int s = 0;
+        int f = 0;
+        int p = 0;
+        for (int i = 0; i < states.length; i++) {
+            if (states[i] == SUCCEEDED) {
+                indices[s] = i;
+                values[s++] = results[i];
+            } else if (states[i] == FAILED) {
+                failedIndices[f++] = i;
+            } else {
+                pendingIndices[p++] = i;
+            }
+        }
+    }
+
+    /**
+     * Gather the results of the {@link Future}s until all of them complete or {@code deadlineMs} passes, whichever
+     * comes first.
+     * <p>
+     * The result {@code Future} always succeeds, with whatever has completed by then. If the deadline passes first,
+     * {@code onCancel} is called with the index of each {@code Future} that is still pending before the result
+     * {@code Future} completes, so the underlying operations can be cancelled. The results completed afterward are
+     * ignored.
+     *
+     * @param vertx      the {@code Vertx} instance to set the deadline timer
+     * @param futures    the {@code Future}s
+     * @param deadlineMs the deadline in milliseconds from now
+     * @param onCancel   the function called with each index of the pending {@code Future}s, may be {@code null}
+     * @param <T>        the type parameter of the {@code Future}s
+     * @return the result {@code Future}
+     * @throws IllegalArgumentException if {@code deadlineMs} is not positive
+     */
+    public static <T> Future<Gathered<T>> until(
+            Vertx vertx, List<Future<T>> futures, long deadlineMs, IntConsumer onCancel
+    ) {
+        if (deadlineMs < 1) {
+            throw new IllegalArgumentException("deadlineMs must be positive: " + deadlineMs);
+        }
+
+        Collector<T> collector = new Collector<>(futures.size());
+        for (int i = 0; i < futures.size(); i++) {
+            int index = i;
+            futures.get(i).onComplete(ar -> collector.accept(index, ar));
+        }
+
+        if (!collector.promise.future().isComplete()) {
+            long timerId = vertx.setTimer(deadlineMs, _id -> collector.expire(onCancel));
+            collector.promise.future().onComplete(_ar -> vertx.cancelTimer(timerId));
+        }
+
+        return collector.promise.future();
+    }
+
+    /**
+     * Get the number of the succeeded {@link Future}s.
+     */
+    public int size() {
+        return indices.length;
+    }
+
+    /**
+     * Get the index of the {@code i}-th succeeded {@link Future} in the original ones.
+     */
+    public int index(int i) {
+        return indices[i];
+    }
+
+    /**
+     * Get the result of the {@code i}-th succeeded {@link Future}.
+     */
+    @SuppressWarnings("unchecked")
+    public T value(int i) {
+        return (T) values[i];
+    }
+
+    /**
+     * Get the indices of the succeeded {@link Future}s in the original ones.
+     */
+    public int[] indices() {
+        return indices.clone();
+    }
+
+    /**
+     * Get the results of the succeeded {@link Future}s as an unmodifiable view.
+     */
+    public List<T> values() {
+        return new AbstractList<T>() {
+            @Override
+            public T get(int index) {
+                return value(index);
+            }
+
+            @Override
+            public int size() {
+                return values.length;
+            }
+        };
+    }
+
+    /**
+     * Get the indices of the failed {@link Future}s in the original ones.
+     */
+    public int[] failedIndices() {
+        return failedIndices.clone();
+    }
+
+    /**
+     * Get the indices of the {@link Future}s that were still pending at the deadline.
+     */
+    public int[] pendingIndices() {
+        return pendingIndices.clone();
+    }
+
+    /**
+     * Return whether all the {@link Future}s completed before the deadline.
+     */
+    public boolean isComplete() {
+        return pendingIndices.length == 0;
+    }
+
+    @Override
+    public String toString() {
+        return "Gathered(indices=" + Arrays.toString(indices) + ", values=" + Arrays.toString(values)
+                + ", failedIndices=" + Arrays.toString(failedIndices)
+                + ", pendingIndices=" + Arrays.toString(pendingIndices) + ")";
+    }
+
+    private static final class Collector<T> {
+        private final Promise<Gathered<T>> promise = Promise.promise();
+        private final byte[] states;
+        private final Object[] results;
+        private int succeeded = 0;
+        private int failed = 0;
+        private boolean decided = false;
+
+        private Collector(int n) {
+            this.states = new byte[n];
+            this.results = new Object[n];
+            if (n == 0) {
+                decided = true;
+                promise.complete(new Gathered<>(states, results, 0, 0));
+            }
+        }
+
+        private void accept(int index, AsyncResult<T> ar) {
+            Gathered<T> gathered;
+            synchronized (this) {
+                if (decided) {
+                    return;
+                }
+
+                if (ar.succeeded()) {
+                    states[index] = SUCCEEDED;
+                    results[index] = ar.result();
+                    succeeded++;
+                } else {
+                    states[index] = FAILED;
+                    failed++;
+                }
+
+                if (succeeded + failed < states.length) {
+                    return;
+                }
+                decided = true;
+                gathered = new Gathered<>(states, results, succeeded, failed);
+            }
+
+            promise.complete(gathered);
+        }
+
+        private void expire(IntConsumer onCancel) {
+            Gathered<T> gathered;
+            synchronized (this) {
+                if (decided) {
+                    return;
+                }
+                decided = true;
+                gathered = new Gathered<>(states, results, succeeded, failed);
+            }
+
+            // cancel before completing, so that the stragglers are cancelled once the result is observed
+            if (onCancel != null) {
+                for (int index : gathered.pendingIndices) {
+                    onCancel.accept(index);
+                }
+            }
+            promise.complete(gathered);
+        }
+    }
+}
@@ -22,11 +22,23 @@
  */
 package me.hltj.vertx.future;
 
+import io.vertx.core.Future;
+import me.hltj.vertx.metrics.FallbackCounters;
+import me.hltj.vertx.metrics.Metrics;
+
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 class InternalUtil {
+    static <R> Future<R> evaluate(Supplier<Future<R>> supplier) {
+        try {
+            return supplier.get();
+        } catch (Throwable t) {
+            return Future.failedFuture(t);
+        }
+    }
+
     static <T> Supplier<T> toSupplier(Runnable onEmpty, T v0) {
         return () -> {
             onEmpty.run();
@@ -40,4 +52,52 @@ class InternalUtil {
             return v0;
         };
     }
+
+    // FutureUtils#defaultWith counted and recorded as `operation`, e.g. the defaults of a future tuple
+    static <T> Future<T> defaultWith(String operation, Future<T> future, T v0) {
+        if (FallbackCounters.isEnabled()) {
+            FallbackCounters.countDefault(operation, future);
+        }
+
+        return future.map(x -> x == null ? v0 : x);
+    }
+
+    static <T> Future<T> defaultWith(String operation, Future<T> future, Supplier<T> supplier) {
+        if (FallbackCounters.isEnabled()) {
+            FallbackCounters.countDefault(operation, future);
+        }
+
+        return future.map(x -> x == null ? supplier.get() : x);
+    }
+
+    // FutureUtils#fallbackWith counted and recorded as `operation`, e.g. the fallback of a future tuple
+    static <T> Future<T> fallbackWith(String operation, Future<T> future, T v0) {
+        if (FallbackCounters.isEnabled()) {
+            FallbackCounters.countFallback(operation, future);
+        }
+
+        if (Metrics.SPI == null) {
+            return future.otherwise(v0).map(x -> x == null ? v0 : x);
+        }
+
+        return Metrics.recordFallback(
+                operation, System.nanoTime(), future, future.otherwise(v0).map(x -> x == null ? v0 : x)
+        );
+    }
+
+    static <T> Future<T> fallbackWith(
+            String operation, Future<T> future, Function<Throwable, T> mapper, Supplier<T> supplier
+    ) {
+        if (FallbackCounters.isEnabled()) {
+            FallbackCounters.countFallback(operation, future);
+        }
+
+        if (Metrics.SPI == null) {
+            return future.otherwise(mapper).map(x -> x == null ? supplier.get() : x);
+        }
+
+        return Metrics.recordFallback(
+                operation, System.nanoTime(), future, future.otherwise(mapper).map(x -> x == null ? supplier.get() : x)
+        );
+    }
 }
@@ -0,0 +1,154 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.future;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+import me.hltj.vertx.FutureUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static me.hltj.vertx.FutureUtils.joinWrap;
+
+/**
+ * A lazy tuple of two {@link Future} suppliers.
+ * <p>
+ * Unlike {@link FutureTuple2} that takes {@code Future}s which have already started, no supplier is called until the
+ * tuple is started by {@link #start()}, {@link #all()}, {@link #any()}, {@link #join()} or one of the staggered
+ * {@code any} variants. Each supplier is called through {@link FutureUtils#joinWrap(Supplier)}, so a supplier that
+ * throws a non-checked exception results in a failed {@code Future}.
+ *
+ * @param <T0> the type parameter of the 1st {@code Future}
+ * @param <T1> the type parameter of the 2nd {@code Future}
+ */
+@Getter
+@AllArgsConstructor(staticName = "of")
+@ToString(includeFieldNames = false)
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public final class LazyFutureTuple2<T0, T1> {
+    Supplier<Future<T0>> _0;
+    Supplier<Future<T1>> _1;
+
+    /**
+     * Call all the suppliers and return the started {@link FutureTuple2}.
+     *
+     * @return the started {@code FutureTuple2}
+     */
+    public FutureTuple2<T0, T1> start() {
+        return FutureTuple2.of(joinWrap(_0), joinWrap(_1));
+    }
+
+    /**
+     * Start all the suppliers and composite them to a {@link CompositeFutureTuple2}
+     * with {@link CompositeFuture#all(Future, Future)}.
+     * <p>
+     * It behaves as {@code start().all()}.
+     *
+     * @return the {@code CompositeFutureTuple2}
+     */
+    public CompositeFutureTuple2<T0, T1> all() {
+        return start().all();
+    }
+
+    /**
+     * Start all the suppliers and composite them to a {@link CompositeFutureTuple2}
+     * with {@link CompositeFuture#any(Future, Future)}.
+     * <p>
+     * It behaves as {@code start().any()}.
+     *
+     * @return the {@code CompositeFutureTuple2}
+     */
+    public CompositeFutureTuple2<T0, T1> any() {
+        return start().any();
+    }
+
+    /**
+     * Start all the suppliers and composite them to a {@link CompositeFutureTuple2}
+     * with {@link CompositeFuture#join(Future, Future)}.
+     * <p>
+     * It behaves as {@code start().join()}.
+     *
+     * @return the {@code CompositeFutureTuple2}
+     */
+    public CompositeFutureTuple2<T0, T1> join() {
+        return start().join();
+    }
+
+    /**
+     * Start the suppliers one by one in order, and composite them with {@link CompositeFuture#any(Future, Future)}.
+     * <p>
+     * A supplier is called only after all the previously started {@code Future}s failed, so the suppliers should be
+     * ordered cheapest first. Once a {@code Future} succeeds, the suppliers that have not been called will never be
+     * called, and their slots of the returned tuple stay pending.
+     *
+     * @return the {@code CompositeFutureTuple2}
+     */
+    public CompositeFutureTuple2<T0, T1> anySequential() {
+        return anyInWaves(null, 1, 0);
+    }
+
+    /**
+     * Start the suppliers one per wave in order, and composite them with {@link CompositeFuture#any(Future, Future)}.
+     * <p>
+     * It behaves as {@link #anyStaggered(Vertx, int, long)} with {@code waveSize} 1.
+     *
+     * @param vertx   the Vert.x instance used to set the wave timer
+     * @param delayMs the delay in milliseconds between waves
+     * @return the {@code CompositeFutureTuple2}
+     */
+    public CompositeFutureTuple2<T0, T1> anyStaggered(Vertx vertx, long delayMs) {
+        return anyInWaves(vertx, 1, delayMs);
+    }
+
+    /**
+     * Start the suppliers in staggered waves in order, and composite them with
+     * {@link CompositeFuture#any(Future, Future)}.
+     * <p>
+     * Each wave calls the next {@code waveSize} suppliers. The next wave is started {@code delayMs} after the previous
+     * one, or immediately when all the started {@code Future}s failed, so the suppliers should be ordered cheapest
+     * first. Once a {@code Future} succeeds, the suppliers that have not been called will never be called, and their
+     * slots of the returned tuple stay pending.
+     *
+     * @param vertx    the Vert.x instance used to set the wave timer
+     * @param waveSize the count of suppliers called in a wave
+     * @param delayMs  the delay in milliseconds between waves
+     * @return the {@code CompositeFutureTuple2}
+     */
+    public CompositeFutureTuple2<T0, T1> anyStaggered(Vertx vertx, int waveSize, long delayMs) {
+        return anyInWaves(vertx, waveSize, delayMs);
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompositeFutureTuple2<T0, T1> anyInWaves(Vertx vertx, int waveSize, long delayMs) {
+        List<Future<?>> futures = StaggeredStarter.start(Arrays.asList(_0, _1), vertx, waveSize, delayMs);
+        return FutureTuple2.of((Future<T0>) futures.get(0), (Future<T1>) futures.get(1)).any();
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.future;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static me.hltj.vertx.FutureUtils.joinWrap;
+
+/**
+ * A lazy tuple of 4 {@link Future} suppliers.
+ * <p>
+ * It likes {@link LazyFutureTuple2} but with 4-arity.
+ *
+ * @param <T0> the type parameter of the 1st {@code Future}
+ * @param <T1> the type parameter of the 2nd {@code Future}
+ * @param <T2> the type parameter of the 3rd {@code Future}
+ * @param <T3> the type parameter of the 4th {@code Future}
+ */
+@Getter
+@AllArgsConstructor(staticName = "of")
+@ToString(includeFieldNames = false)
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public final class LazyFutureTuple4<T0, T1, T2, T3> {
+    Supplier<Future<T0>> _0;
+    Supplier<Future<T1>> _1;
+    Supplier<Future<T2>> _2;
+    Supplier<Future<T3>> _3;
+
+    /**
+     * Call all the suppliers and return the started {@link FutureTuple4}.
+     * <p>
+     * It likes {@link LazyFutureTuple2#start()} but with 4-arity.
+     */
+    public FutureTuple4<T0, T1, T2, T3> start() {
+        return FutureTuple4.of(joinWrap(_0), joinWrap(_1), joinWrap(_2), joinWrap(_3));
+    }
+
+    /**
+     * Start all the suppliers and composite them to a {@link CompositeFutureTuple4}
+     * with {@link CompositeFuture#all(Future, Future, Future, Future)}.
+     * <p>
+     * It likes {@link LazyFutureTuple2#all()} but with 4-arity.
+     */
+    public CompositeFutureTuple4<T0, T1, T2, T3> all() {
+        return start().all();
+    }
+
+    /**
+     * Start all the suppliers and composite them to a {@link CompositeFutureTuple4}
+     * with {@link CompositeFuture#any(Future, Future, Future, Future)}.
+     * <p>
+     * It likes {@link LazyFutureTuple2#any()} but with 4-arity.
+     */
+    public CompositeFutureTuple4<T0, T1, T2, T3> any() {
+        return start().any();
+    }
+
+    /**
+     * Start all the suppliers and composite them to a {@link CompositeFutureTuple4}
+     * with {@link CompositeFuture#join(Future, Future, Future, Future)}.
+     * <p>
+     * It likes {@link LazyFutureTuple2#join()} but with 4-arity.
+     */
+    public CompositeFutureTuple4<T0, T1, T2, T3> join() {
+        return start().join();
+    }
+
+    /**
+     * Start the suppliers one by one in order, and composite them
+     * with {@link CompositeFuture#any(Future, Future, Future, Future)}.
+     * <p>
+     * It likes {@link LazyFutureTuple2#anySequential()} but with 4-arity.
+     */
+    public CompositeFutureTuple4<T0, T1, T2, T3> anySequential() {
+        return anyInWaves(null, 1, 0);
+    }
+
+    /**
+     * Start the suppliers one per wave in order, and composite them
+     * with {@link CompositeFuture#any(Future, Future, Future, Future)}.
+     * <p>
+     * It likes {@link LazyFutureTuple2#anyStaggered(Vertx, long)} but with 4-arity.
+     */
+    public CompositeFutureTuple4<T0, T1, T2, T3> anyStaggered(Vertx vertx, long delayMs) {
+        return anyInWaves(vertx, 1, delayMs);
+    }
+
+    /**
+     * Start the suppliers in staggered waves in order, and composite them
+     * with {@link CompositeFuture#any(Future, Future, Future, Future)}.
+     * <p>
+     * It likes {@link LazyFutureTuple2#anyStaggered(Vertx, int, long)} but with 4-arity.
+     */
+    public CompositeFutureTuple4<T0, T1, T2, T3> anyStaggered(Vertx vertx, int waveSize, long delayMs) {
+        return anyInWaves(vertx, waveSize, delayMs);
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompositeFutureTuple4<T0, T1, T2, T3> anyInWaves(Vertx vertx, int waveSize, long delayMs) {
+        List<Future<?>> futures = StaggeredStarter.start(Arrays.asList(_0, _1, _2, _3), vertx, waveSize, delayMs);
+        return FutureTuple4.of(
+                (Future<T0>) futures.get(0),
+                (Future<T1>) futures.get(1),
+                (Future<T2>) futures.get(2),
+                (Future<T3>) futures.get(3)
+        ).any();
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.future;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static me.hltj.vertx.FutureUtils.joinWrap;
+
+/**
+ * A lazy tuple of 9 {@link Future} suppliers.
+ * <p>
+ * It likes {@link LazyFutureTuple2} but with 9-arity.
+ *
+ * @param <T0> the type parameter of the 1st {@code Future}
+ * @param <T1> the type parameter of the 2nd {@code Future}
+ * @param <T2> the type parameter of the 3rd {@code Future}
+ * @param <T3> the type parameter of the 4th {@code Future}
+ * @param <T4> the type parameter of the 5th {@code Future}
+ * @param <T5> the type parameter of the 6th {@code Future}
+ * @param <T6> the type parameter of the 7th {@code Future}
+ * @param <T7> the type parameter of the 8th {@code Future}
+ * @param <T8> the type parameter of the 9th {@code Future}
+ */
+@Getter
+@AllArgsConstructor(staticName = "of")
+@ToString(includeFieldNames = false)
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public final class LazyFutureTuple9<T0, T1, T2, T3, T4, T5, T6, T7, T8> {
+    Supplier<Future<T0>> _0;
+    Supplier<Future<T1>> _1;
+    Supplier<Future<T2>> _2;
+    Supplier<Future<T3>> _3;
+    Supplier<Future<T4>> _4;
+    Supplier<Future<T5>> _5;
+    Supplier<Future<T6>> _6;
+    Supplier<Future<T7>> _7;
+    Supplier<Future<T8>> _8;
+
+    /**
+     * Call all the suppliers and return the started {@link FutureTuple9}.
+     * <p>
+     * It likes {@link LazyFutureTuple2#start()} but with 9-arity.
+     */
+    public FutureTuple9<T0, T1, T2, T3, T4, T5, T6, T7, T8> start() {
+        return FutureTuple9.of(
+                joinWrap(_0), joinWrap(_1), joinWrap(_2), joinWrap(_3), joinWrap(_4),
+                joinWrap(_5), joinWrap(_6), joinWrap(_7), joinWrap(_8)
+        );
+    }
+
+    /**
+     * Start all the suppliers and composite them to a {@link CompositeFutureTuple9}
+     * with {@link CompositeFuture#all(List)}.
+     * <p>
+     * It likes {@link LazyFutureTuple2#all()} but with 9-arity.
+     */
+    public CompositeFutureTuple9<T0, T1, T2, T3, T4, T5, T6, T7, T8> all() {
+        return start().all();
+    }
+
+    /**
+     * Start all the suppliers and composite them to a {@link CompositeFutureTuple9}
+     * with {@link CompositeFuture#any(List)}.
+     * <p>
+     * It likes {@link LazyFutureTuple2#any()} but with 9-arity.
+     */
+    public CompositeFutureTuple9<T0, T1, T2, T3, T4, T5, T6, T7, T8> any() {
+        return start().any();
+    }
+
+    /**
+     * Start all the suppliers and composite them to a {@link CompositeFutureTuple9}
+     * with {@link CompositeFuture#join(List)}.
+     * <p>
+     * It likes {@link LazyFutureTuple2#join()} but with 9-arity.
+     */
+    public CompositeFutureTuple9<T0, T1, T2, T3, T4, T5, T6, T7, T8> join() {
+        return start().join();
+    }
+
+    /**
+     * Start the suppliers one by one in order, and composite them with {@link CompositeFuture#any(List)}.
+     * <p>
+     * It likes {@link LazyFutureTuple2#anySequential()} but with 9-arity.
+     */
+    public CompositeFutureTuple9<T0, T1, T2, T3, T4, T5, T6, T7, T8> anySequential() {
+        return anyInWaves(null, 1, 0);
+    }
+
+    /**
+     * Start the suppliers one per wave in order, and composite them with {@link CompositeFuture#any(List)}.
+     * <p>
+     * It likes {@link LazyFutureTuple2#anyStaggered(Vertx, long)} but with 9-arity.
+     */
+    public CompositeFutureTuple9<T0, T1, T2, T3, T4, T5, T6, T7, T8> anyStaggered(Vertx vertx, long delayMs) {
+        return anyInWaves(vertx, 1, delayMs);
+    }
+
+    /**
+     * Start the suppliers in staggered waves in order, and composite them with {@link CompositeFuture#any(List)}.
+     * <p>
+     * It likes {@link LazyFutureTuple2#anyStaggered(Vertx, int, long)} but with 9-arity.
+     */
+    public CompositeFutureTuple9<T0, T1, T2, T3, T4, T5, T6, T7, T8> anyStaggered(
+            Vertx vertx, int waveSize, long delayMs
+    ) {
+        return anyInWaves(vertx, waveSize, delayMs);
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompositeFutureTuple9<T0, T1, T2, T3, T4, T5, T6, T7, T8> anyInWaves(
+            Vertx vertx, int waveSize, long delayMs
+    ) {
+        List<Future<?>> futures = StaggeredStarter.start(
+                Arrays.asList(_0, _1, _2, _3, _4, _5, _6, _7, _8), vertx, waveSize, delayMs
+        );
+        return FutureTuple9.of(
+                (Future<T0>) futures.get(0),
+                (Future<T1>) futures.get(1),
+                (Future<T2>) futures.get(2),
+                (Future<T3>) futures.get(3),
+                (Future<T4>) futures.get(4),
+                (Future<T5>) futures.get(5),
+                (Future<T6>) futures.get(6),
+                (Future<T7>) futures.get(7),
+                (Future<T8>) futures.get(8)
+        ).any();
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.future;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Function;
+
+import static me.hltj.vertx.FutureUtils.joinWrap;
+
+/**
+ * A batcher that groups submitted items into batches by size and by time window.
+ * <p>
+ * A batch is flushed as soon as {@code maxBatchSize} items have been submitted, or {@code maxDelayMs} milliseconds
+ * after the first item of the batch was submitted, whichever comes first. The {@code batchFunction} returns the
+ * per-item results in submission order, and each {@link #submit(Object)} caller's {@link Future} is completed with
+ * the result at its position. e.g. :
+ *
+ * <pre>
+ *     MicroBatcher&lt;AuditEvent, Long&gt; batcher = MicroBatcher.of(vertx, 100, 10, auditDao::insertAll);
+ *     Future&lt;Long&gt; idFuture = batcher.submit(event);
+ * </pre>
+ * <p>
+ * Pending items are kept in batch buffers preallocated with {@code maxBatchSize} slots, and a buffer is reused for a
+ * later batch once the result of its batch completes, so neither submitting nor flushing allocates a buffer in the
+ * steady state. Thus the list passed to {@code batchFunction} is a read-only view of the buffer, which is only valid
+ * until the returned {@code Future} completes, it should be copied to be kept longer. A batcher is not thread-safe,
+ * it should be used on the Vert.x context where the submissions happen.
+ *
+ * @param <T> the type of the items
+ * @param <R> the type of the per-item results
+ */
+public final class MicroBatcher<T, R> {
+    private final Vertx vertx;
+    private final int maxBatchSize;
+    private final long maxDelayMs;
+    private final Function<List<T>, Future<List<R>>> batchFunction;
+    private final Deque<Batch> spare = new ArrayDeque<>();
+    private Batch current = null;
+    private long timerId = -1;
+
+    private MicroBatcher(
+            Vertx vertx, int maxBatchSize, long maxDelayMs, Function<List<T>, Future<List<R>>> batchFunction
+    ) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be positive: " + maxBatchSize);
+        }
+        if (maxDelayMs < 1) {
+            throw new IllegalArgumentException("maxDelayMs must be positive: " + maxDelayMs);
+        }
+
+        this.vertx = vertx;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayMs = maxDelayMs;
+        this.batchFunction = batchFunction;
+    }
+
+    /**
+     * Create a {@link MicroBatcher}.
+     *
+     * @param vertx         the Vert.x instance used to set the flush timer
+     * @param maxBatchSize  the max count of items in a batch
+     * @param maxDelayMs    the max delay in milliseconds between the first item of a batch is submitted and the batch
+     *                      is flushed
+     * @param batchFunction the batch call that returns the per-item results in submission order
+     * @param <T>           the type of the items
+     * @param <R>           the type of the per-item results
+     * @return the {@code MicroBatcher}
+     */
+    public static <T, R> MicroBatcher<T, R> of(
+            Vertx vertx, int maxBatchSize, long maxDelayMs, Function<List<T>, Future<List<R>>> batchFunction
+    ) {
+        return new MicroBatcher<>(vertx, maxBatchSize, maxDelayMs, batchFunction);
+    }
+
+    /**
+     * Submit an item to the current batch.
+     * <p>
+     * The returned future succeeds with the result at the item's position of the batch result. If the batch call
+     * fails or throws a non-checked exception, the futures of all items in the batch will be failed with that cause.
+     * If the batch result has fewer elements than the batch, the futures of the items without results will be failed
+     * with a {@link MissingResultException}.
+     *
+     * @param item the item
+     * @return the {@code Future} of the per-item result
+     */
+    public Future<R> submit(T item) {
+        if (current == null) {
+            current = takeSpare();
+        }
+
+        Promise<R> promise = Promise.promise();
+        int size = current.add(item, promise);
+
+        if (size == maxBatchSize) {
+            flush();
+        } else if (size == 1) {
+            timerId = vertx.setTimer(maxDelayMs, _id -> {
+                timerId = -1;
+                flush();
+            });
+        }
+
+        return promise.future();
+    }
+
+    /**
+     * Return the count of items submitted but not flushed yet.
+     */
+    public int pending() {
+        return current == null ? 0 : current.size;
+    }
+
+    /**
+     * Flush the items submitted so far immediately, without waiting for the batch to fill up or the time window to
+     * pass.
+     */
+    public void flush() {
+        if (current == null || current.size == 0) {
+            return;
+        }
+
+        if (timerId != -1) {
+            vertx.cancelTimer(timerId);
+            timerId = -1;
+        }
+
+        Batch batch = current;
+        current = null;
+        joinWrap(batch, batchFunction).onComplete(batch);
+    }
+
+    private Batch takeSpare() {
+        synchronized (spare) {
+            Batch batch = spare.poll();
+            return batch == null ? new Batch() : batch;
+        }
+    }
+
+    private void putSpare(Batch batch) {
+        synchronized (spare) {
+            spare.push(batch);
+        }
+    }
+
+    // a preallocated batch buffer, which is also the read-only list passed to the batch function and the handler of
+    // its result, so that a batch doesn't allocate anything but the futures
+    private final class Batch extends AbstractList<T> implements Handler<AsyncResult<List<R>>> {
+        private final Object[] items = new Object[maxBatchSize];
+        private final Object[] promises = new Object[maxBatchSize];
+        private int size = 0;
+
+        private int add(T item, Promise<R> promise) {
+            items[size] = item;
+            promises[size] = promise;
+            return ++size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("index " + index + " out of a batch of " + size);
+            }
+
+            return (T) items[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void handle(AsyncResult<List<R>> ar) {
+            if (ar.failed()) {
+                for (int i = 0; i < size; i++) {
+                    ((Promise<R>) promises[i]).fail(ar.cause());
+                }
+            } else {
+                List<R> results = ar.result();
+                int resultSize = results == null ? 0 : results.size();
+                for (int i = 0; i < size; i++) {
+                    if (i < resultSize) {
+                        ((Promise<R>) promises[i]).complete(results.get(i));
+                    } else {
+                        ((Promise<R>) promises[i]).fail(new MissingResultException(
+                                "no result for item " + i + " of a batch with " + resultSize + " results"
+                        ));
+                    }
+                }
+            }
+
+            Arrays.fill(items, 0, size, null);
+            Arrays.fill(promises, 0, size, null);
+            size = 0;
+            putSpare(this);
+        }
+    }
+}
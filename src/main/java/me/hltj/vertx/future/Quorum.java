@@ -0,0 +1,188 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.future;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * The first {@code k} successes of {@code n} {@link Future}s, i.e. the indices of the succeeded {@code Future}s and
+ * their results, in completion order.
+ *
+ * @param <T> the type parameter of the {@code Future}s
+ */
+public final class Quorum<T> {
+    private final int[] indices;
+    private final Object[] values;
+
+    private Quorum(int[] indices, Object[] values) {
+        this.indices = indices;
+        this.values = values;
+    }
+
+    /**
+     * Wait for {@code k} of the {@link Future}s to succeed.
+     * <p>
+     * The result {@code Future} succeeds with the first {@code k} successes as soon as they complete, or fails with
+     * the failure cause that makes {@code k} successes no longer possible as soon as it completes. Once the result
+     * is decided, {@code onCancel} is called with the index of each {@code Future} that is still pending, so the
+     * underlying operations can be cancelled, the already completed ones are never cancelled even if the result is
+     * decided before their results are collected. The results completed afterward are ignored.
+     *
+     * @param k        the quorum size, from 1 to the number of {@code futures}
+     * @param futures  the {@code Future}s
+     * @param onCancel the function called with each index of the pending {@code Future}s, may be {@code null}
+     * @param <T>      the type parameter of the {@code Future}s
+     * @return the result {@code Future}
+     * @throws IllegalArgumentException if {@code k} is out of range
+     */
+    public static <T> Future<Quorum<T>> of(int k, List<Future<T>> futures, IntConsumer onCancel) {
+        if (k < 1 || k > futures.size()) {
+            throw new IllegalArgumentException("k must be in [1, " + futures.size() + "]: " + k);
+        }
+
+        Collector<T> collector = new Collector<>(k, futures, onCancel);
+        for (int i = 0; i < futures.size(); i++) {
+            int index = i;
+            futures.get(i).onComplete(ar -> collector.accept(index, ar));
+        }
+
+        return collector.promise.future();
+    }
+
+    /**
+     * Get the number of successes, always {@code k}.
+     */
+    public int size() {
+        return indices.length;
+    }
+
+    /**
+     * Get the index of the {@code i}-th success in the original {@link Future}s.
+     */
+    public int index(int i) {
+        return indices[i];
+    }
+
+    /**
+     * Get the result of the {@code i}-th success.
+     */
+    @SuppressWarnings("unchecked")
+    public T value(int i) {
+        return (T) values[i];
+    }
+
+    /**
+     * Get the indices of the successes in the original {@link Future}s, in completion order.
+     */
+    public int[] indices() {
+        return indices.clone();
+    }
+
+    /**
+     * Get the results of the successes, in completion order, as an unmodifiable view.
+     */
+    public List<T> values() {
+        return new AbstractList<T>() {
+            @Override
+            public T get(int index) {
+                return value(index);
+            }
+
+            @Override
+            public int size() {
+                return values.length;
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "Quorum(indices=" + Arrays.toString(indices) + ", values=" + Arrays.toString(values) + ")";
+    }
+
+    private static final class Collector<T> {
+        private final Promise<Quorum<T>> promise = Promise.promise();
+        private final List<Future<T>> futures;
+        private final IntConsumer onCancel;
+        private final int[] indices;
+        private final Object[] values;
+        private int succeeded = 0;
+        private int failureBudget;
+        private boolean decided = false;
+
+        private Collector(int k, List<Future<T>> futures, IntConsumer onCancel) {
+            this.futures = futures;
+            this.onCancel = onCancel;
+            this.indices = new int[k];
+            this.values = new Object[k];
+            this.failureBudget = futures.size() - k;
+        }
+
+        private void accept(int index, AsyncResult<T> ar) {
+            synchronized (this) {
+                if (decided) {
+                    return;
+                }
+
+                if (ar.succeeded()) {
+                    indices[succeeded] = index;
+                    values[succeeded] = ar.result();
+                    if (++succeeded < indices.length) {
+                        return;
+                    }
+                } else if (failureBudget-- > 0) {
+                    return;
+                }
+                decided = true;
+            }
+
+            // complete and cancel outside the lock, other slots may complete synchronously within the callbacks
+            if (ar.succeeded()) {
+                promise.complete(new Quorum<>(indices, values));
+            } else {
+                promise.fail(ar.cause());
+            }
+            cancelPending();
+        }
+
+        private void cancelPending() {
+            if (onCancel == null) {
+                return;
+            }
+
+            // checks the futures rather than the collected results, which miss the ones not registered yet
+            for (int i = 0; i < futures.size(); i++) {
+                if (!futures.get(i).isComplete()) {
+                    onCancel.accept(i);
+                }
+            }
+        }
+    }
+}
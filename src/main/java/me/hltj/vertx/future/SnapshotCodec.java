@@ -0,0 +1,69 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.future;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A codec that encodes / decodes the entries of a {@link FutureCache} snapshot.
+ * <p>
+ * The buffers passed to the decode methods are read-only slices of the memory-mapped snapshot file, that exactly
+ * contain the bytes produced by the corresponding encode method.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public interface SnapshotCodec<K, V> {
+
+    /**
+     * Encode a key to bytes.
+     *
+     * @param key the key
+     * @return the encoded bytes
+     */
+    byte[] encodeKey(K key);
+
+    /**
+     * Decode a key from bytes.
+     *
+     * @param buffer the encoded bytes
+     * @return the key
+     */
+    K decodeKey(ByteBuffer buffer);
+
+    /**
+     * Encode a value to bytes.
+     *
+     * @param value the value
+     * @return the encoded bytes
+     */
+    byte[] encodeValue(V value);
+
+    /**
+     * Decode a value from bytes.
+     *
+     * @param buffer the encoded bytes
+     * @return the value
+     */
+    V decodeValue(ByteBuffer buffer);
+}
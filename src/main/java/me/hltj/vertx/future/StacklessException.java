@@ -0,0 +1,53 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.future;
+
+/**
+ * The base of the failures created by this library, which never fill in the stack traces.
+ * <p>
+ * Filling in the stack trace dominates the cost of creating an exception, and a stack trace of a failure created in
+ * a callback of a {@code Future} seldom tells more than the exception type and message. So the failures created by
+ * this library, e.g. {@link MissingResultException}, skip it.
+ */
+public class StacklessException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs a stackless exception with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public StacklessException(String message) {
+        super(message, null, true, false);
+    }
+
+    /**
+     * Constructs a stackless exception with the specified detail message and cause.
+     *
+     * @param message the detail message
+     * @param cause   the cause
+     */
+    public StacklessException(String message, Throwable cause) {
+        super(message, cause, true, false);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.future;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static me.hltj.vertx.FutureUtils.joinWrap;
+
+/**
+ * Start lazy {@link Future} suppliers in waves, until one of the started {@code Future}s succeeds.
+ * <p>
+ * A new wave is started when all started {@code Future}s failed, or {@code delayMs} after the previous wave if
+ * {@code vertx} is not {@code null}. The slots that are never started stay pending.
+ * <p>
+ * The slots may complete on any thread and the timer fires on a Vert.x context, so the state is guarded by the
+ * instance lock, while the suppliers are called and the slots are completed outside it.
+ */
+class StaggeredStarter {
+    private final List<Supplier<? extends Future<?>>> suppliers;
+    private final List<Promise<Object>> promises;
+    private final Vertx vertx;
+    private final int waveSize;
+    private final long delayMs;
+    private int started = 0;
+    private int failed = 0;
+    private boolean succeeded = false;
+    private long timerId = -1;
+
+    private StaggeredStarter(
+            List<Supplier<? extends Future<?>>> suppliers, Vertx vertx, int waveSize, long delayMs
+    ) {
+        if (waveSize < 1) {
+            throw new IllegalArgumentException("waveSize must be positive: " + waveSize);
+        }
+
+        this.suppliers = suppliers;
+        this.vertx = vertx;
+        this.waveSize = waveSize;
+        this.delayMs = delayMs;
+        this.promises = new ArrayList<>(suppliers.size());
+        for (int i = 0; i < suppliers.size(); i++) {
+            promises.add(Promise.promise());
+        }
+    }
+
+    static List<Future<?>> start(
+            List<Supplier<? extends Future<?>>> suppliers, Vertx vertx, int waveSize, long delayMs
+    ) {
+        StaggeredStarter starter = new StaggeredStarter(suppliers, vertx, waveSize, delayMs);
+        List<Future<?>> futures = new ArrayList<>(suppliers.size());
+        starter.promises.forEach(promise -> futures.add(promise.future()));
+        starter.startWave();
+        return futures;
+    }
+
+    private void startWave() {
+        List<Integer> wave = new ArrayList<>(waveSize);
+        synchronized (this) {
+            cancelTimer();
+            int end = Math.min(started + waveSize, suppliers.size());
+            while (!succeeded && started < end) {
+                wave.add(started++);
+            }
+
+            if (!succeeded && started < suppliers.size() && vertx != null) {
+                timerId = vertx.setTimer(delayMs, this::onTimer);
+            }
+        }
+
+        // call the suppliers outside the lock, they may complete synchronously and start the next wave
+        wave.forEach(this::startSlot);
+    }
+
+    private void onTimer(long id) {
+        synchronized (this) {
+            if (timerId != id) {
+                return;
+            }
+            timerId = -1;
+        }
+
+        startWave();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void startSlot(int index) {
+        joinWrap(() -> (Future<Object>) suppliers.get(index).get()).onComplete(ar -> {
+            promises.get(index).handle(ar);
+            boolean nextWave = false;
+            synchronized (this) {
+                if (ar.succeeded()) {
+                    succeeded = true;
+                    cancelTimer();
+                } else {
+                    nextWave = ++failed == started;
+                }
+            }
+
+            if (nextWave) {
+                startWave();
+            }
+        });
+    }
+
+    // guarded by this
+    private void cancelTimer() {
+        if (timerId != -1) {
+            vertx.cancelTimer(timerId);
+            timerId = -1;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.future;
+
+import lombok.Value;
+
+/**
+ * The first succeeded slot of a composite {@link io.vertx.core.Future} tuple, recorded when it completes.
+ *
+ * @param <T> the type of the result, likes {@link io.vertx.core.CompositeFuture#resultAt(int)}
+ */
+@Value
+public class Winner<T> {
+
+    /**
+     * The index of the succeeded slot.
+     */
+    int index;
+
+    /**
+     * The result of the succeeded slot.
+     */
+    T value;
+}
@@ -0,0 +1,131 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.metrics;
+
+import io.vertx.core.Future;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * An opt-in mode that records where the {@link Future}s are assembled, for debugging deep future chains.
+ * <p>
+ * The stack trace of a failure in a future chain usually shows nothing but the Vert.x and Netty internals. Once
+ * enabled by {@link #enable(double, int)}, a sampled fraction of the {@code Future}s created by
+ * {@code FutureUtils.futurize}, {@code FutureUtils.joinWrap} and the future tuple combinators record a few caller
+ * frames where they are assembled. When such a {@code Future} fails, an {@link AssemblyTraceException} with the
+ * frames is attached to the failure cause as a suppressed exception.
+ * <p>
+ * As the failure cause is owned by the caller and may be shared by many {@code Future}s, at most
+ * {@value #MAX_ATTACHED} such exceptions are attached to each cause, so that a shared cause never grows without bound.
+ * <p>
+ * The frames are captured by {@code StackWalker} on Java 9 or above, and by filling in a stack trace on Java 8.
+ */
+public final class AssemblyTrace {
+    static final int MAX_ATTACHED = 8;
+
+    private static volatile AssemblyTrace active = null;
+
+    private final double sampleRate;
+    private final int frameLimit;
+
+    private AssemblyTrace(double sampleRate, int frameLimit) {
+        this.sampleRate = sampleRate;
+        this.frameLimit = frameLimit;
+    }
+
+    /**
+     * Enable the assembly trace mode.
+     *
+     * @param sampleRate the fraction of the {@code Future}s to record, between 0 and 1
+     * @param frameLimit the max count of the frames to record for each {@code Future}
+     * @return the enabled mode
+     * @throws IllegalStateException if the mode is already enabled
+     */
+    public static synchronized AssemblyTrace enable(double sampleRate, int frameLimit) {
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("sampleRate must be between 0 and 1: " + sampleRate);
+        }
+        if (frameLimit < 1) {
+            throw new IllegalArgumentException("frameLimit must be positive: " + frameLimit);
+        }
+        if (active != null) {
+            throw new IllegalStateException("AssemblyTrace is already enabled");
+        }
+
+        active = new AssemblyTrace(sampleRate, frameLimit);
+        Metrics.diagnostic(AssemblyTrace.class, true);
+        return active;
+    }
+
+    /**
+     * Record where a {@link Future} is assembled by the future combinator {@code operation}, if the mode is enabled
+     * and the {@code Future} is sampled.
+     *
+     * @param operation the operation name
+     * @param future    the {@code Future}
+     * @param <F>       the type of the {@code Future}
+     * @return the {@code future} itself
+     */
+    public static <F extends Future<?>> F attach(String operation, F future) {
+        AssemblyTrace trace = active;
+        if (trace != null && !future.isComplete()) {
+            trace.record(operation, future);
+        }
+
+        return future;
+    }
+
+    /**
+     * Disable this mode.
+     */
+    public void disable() {
+        synchronized (AssemblyTrace.class) {
+            if (active == this) {
+                active = null;
+                Metrics.diagnostic(AssemblyTrace.class, false);
+            }
+        }
+    }
+
+    private void record(String operation, Future<?> future) {
+        if (sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+
+        AssemblyTraceException exception = new AssemblyTraceException(operation, StackFrames.capture(frameLimit));
+        future.onFailure(t -> attachTo(t, exception));
+    }
+
+    private static void attachTo(Throwable cause, AssemblyTraceException exception) {
+        synchronized (cause) {
+            int attached = 0;
+            for (Throwable suppressed : cause.getSuppressed()) {
+                if (suppressed instanceof AssemblyTraceException && ++attached >= MAX_ATTACHED) {
+                    return;
+                }
+            }
+
+            cause.addSuppressed(exception);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.metrics;
+
+/**
+ * The caller frames where a failed {@code Future} was assembled, attached to the failure cause as a suppressed
+ * exception by {@link AssemblyTrace}.
+ * <p>
+ * Its stack trace is the recorded caller frames rather than where it is created.
+ */
+public class AssemblyTraceException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs the exception.
+     *
+     * @param operation the operation name of the combinator that assembled the {@code Future}
+     * @param frames    the caller frames of the combinator
+     */
+    public AssemblyTraceException(String operation, StackTraceElement[] frames) {
+        super("assembled by " + operation, null, false, true);
+        setStackTrace(frames);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
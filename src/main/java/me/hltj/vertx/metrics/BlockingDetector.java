@@ -0,0 +1,170 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.metrics;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * An opt-in detector of the functions that block the event loop for too long.
+ * <p>
+ * The functions passed to the future combinators, e.g. {@code CompositeFutureTuple2.applift},
+ * {@code CompositeFutureTuple2.mapTyped}, {@code CompositeFutureTuple2.joinThrough} and {@code FutureUtils.wrap},
+ * usually run on the event loop. Once enabled by {@link #enable(long, double)}, each invocation of them is timed, and
+ * the ones that take longer than the threshold are reported to the {@link FutureMetrics} SPI by
+ * {@link FutureMetrics#recordBlocking(String, long, Throwable)}. Unlike the Vert.x blocked thread checker, which
+ * fires after seconds, the threshold is meant to be a few milliseconds.
+ * <p>
+ * A sampled fraction of the functions also capture the stack trace where they are passed to the combinators, which
+ * is reported along with them.
+ * <p>
+ * When the detector is not enabled, the functions are not wrapped at all.
+ */
+public final class BlockingDetector {
+    private static volatile BlockingDetector active = null;
+
+    private final long thresholdNanos;
+    private final double traceSampleRate;
+
+    private BlockingDetector(long thresholdMs, double traceSampleRate) {
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMs);
+        this.traceSampleRate = traceSampleRate;
+    }
+
+    /**
+     * Enable the detector.
+     *
+     * @param thresholdMs     the threshold in milliseconds
+     * @param traceSampleRate the fraction of the functions to capture stack traces, between 0 and 1
+     * @return the enabled detector
+     * @throws IllegalStateException if a detector is already enabled, or no {@link FutureMetrics} is registered
+     */
+    public static synchronized BlockingDetector enable(long thresholdMs, double traceSampleRate) {
+        if (thresholdMs < 0) {
+            throw new IllegalArgumentException("thresholdMs must not be negative: " + thresholdMs);
+        }
+        if (traceSampleRate < 0 || traceSampleRate > 1) {
+            throw new IllegalArgumentException("traceSampleRate must be between 0 and 1: " + traceSampleRate);
+        }
+        if (Metrics.SPI == null) {
+            throw new IllegalStateException("no FutureMetrics is registered");
+        }
+        if (active != null) {
+            throw new IllegalStateException("a BlockingDetector is already enabled");
+        }
+
+        active = new BlockingDetector(thresholdMs, traceSampleRate);
+        Metrics.diagnostic(BlockingDetector.class, true);
+        return active;
+    }
+
+    /**
+     * Wrap a {@code function} passed to the future combinator {@code operation} to be timed, if a detector is
+     * enabled.
+     *
+     * @param operation the operation name
+     * @param function  the function
+     * @param <T>       the type of the input to the function
+     * @param <R>       the type of the result of the function
+     * @return the timed function, or {@code function} itself if no detector is enabled
+     */
+    public static <T, R> Function<T, R> timed(String operation, Function<T, R> function) {
+        if (!Metrics.diagnosing()) {
+            return function;
+        }
+
+        BlockingDetector detector = active;
+        if (detector == null) {
+            return function;
+        }
+
+        Throwable trace = detector.sampleTrace(operation);
+        return t -> {
+            long startNanos = System.nanoTime();
+            try {
+                return function.apply(t);
+            } finally {
+                detector.check(operation, startNanos, trace);
+            }
+        };
+    }
+
+    /**
+     * Wrap a {@code supplier} passed to the future combinator {@code operation} to be timed, if a detector is
+     * enabled.
+     *
+     * @param operation the operation name
+     * @param supplier  the supplier
+     * @param <R>       the type of the result of the supplier
+     * @return the timed supplier, or {@code supplier} itself if no detector is enabled
+     */
+    public static <R> Supplier<R> timed(String operation, Supplier<R> supplier) {
+        if (!Metrics.diagnosing()) {
+            return supplier;
+        }
+
+        BlockingDetector detector = active;
+        if (detector == null) {
+            return supplier;
+        }
+
+        Throwable trace = detector.sampleTrace(operation);
+        return () -> {
+            long startNanos = System.nanoTime();
+            try {
+                return supplier.get();
+            } finally {
+                detector.check(operation, startNanos, trace);
+            }
+        };
+    }
+
+    /**
+     * Disable this detector.
+     */
+    public void disable() {
+        synchronized (BlockingDetector.class) {
+            if (active == this) {
+                active = null;
+                Metrics.diagnostic(BlockingDetector.class, false);
+            }
+        }
+    }
+
+    private Throwable sampleTrace(String operation) {
+        if (traceSampleRate == 0 || ThreadLocalRandom.current().nextDouble() >= traceSampleRate) {
+            return null;
+        }
+
+        return new Throwable("passed to " + operation);
+    }
+
+    private void check(String operation, long startNanos, Throwable trace) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        if (elapsedNanos > thresholdNanos) {
+            Metrics.SPI.recordBlocking(operation, elapsedNanos, trace);
+        }
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.metrics;
+
+import io.vertx.core.Future;
+import lombok.Value;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Opt-in counters of how often the default / fallback values are actually used, grouped by label.
+ * <p>
+ * Once enabled by {@link #enable()}, each call of {@code FutureUtils.defaultWith} and {@code FutureUtils.fallbackWith}
+ * is counted when the original {@code Future} completes, so are the {@code defaults} and {@code fallback} methods of
+ * the future tuples, which count each {@code Future} of the tuple as a call. The calls are grouped by the label set by
+ * {@link #labeled(String, Supplier)}, or by the operation name (e.g. {@code "FutureUtils.fallbackWith"}, or
+ * {@code "FutureTuple2.fallback"} for the future tuples) if no label is set.
+ * <p>
+ * The counters are {@link LongAdder}s, so that counting scales with contention.
+ */
+public final class FallbackCounters {
+    private static final ConcurrentMap<String, Counter> COUNTERS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<String> LABEL = new ThreadLocal<>();
+    private static volatile boolean enabled = false;
+
+    private FallbackCounters() {
+    }
+
+    /**
+     * Enable counting.
+     */
+    public static synchronized void enable() {
+        enabled = true;
+        Metrics.diagnostic(FallbackCounters.class, true);
+    }
+
+    /**
+     * Disable counting, the counted values are kept.
+     */
+    public static synchronized void disable() {
+        enabled = false;
+        Metrics.diagnostic(FallbackCounters.class, false);
+    }
+
+    /**
+     * Return whether counting is enabled.
+     */
+    public static boolean isEnabled() {
+        return Metrics.diagnosing() && enabled;
+    }
+
+    /**
+     * Evaluate {@code body} and count the default / fallback calls in it with {@code label}.
+     *
+     * @param label the label
+     * @param body  the evaluation
+     * @param <R>   the type of the result
+     * @return the evaluation result
+     */
+    public static <R> R labeled(String label, Supplier<R> body) {
+        String previous = LABEL.get();
+        LABEL.set(label);
+        try {
+            return body.get();
+        } finally {
+            if (previous == null) {
+                LABEL.remove();
+            } else {
+                LABEL.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Count a default call of {@code operation} when {@code original} completes, it uses the default value if
+     * {@code original} succeeds with {@code null}.
+     *
+     * @param operation the operation name, used if no label is set
+     * @param original  the original {@code Future}
+     */
+    public static void countDefault(String operation, Future<?> original) {
+        Counter counter = counter(operation);
+        original.onComplete(ar -> {
+            counter.calls.increment();
+            if (ar.succeeded() && ar.result() == null) {
+                counter.defaults.increment();
+            }
+        });
+    }
+
+    /**
+     * Count a fallback call of {@code operation} when {@code original} completes, it uses the fallback value if
+     * {@code original} fails, or the default value if {@code original} succeeds with {@code null}.
+     *
+     * @param operation the operation name, used if no label is set
+     * @param original  the original {@code Future}
+     */
+    public static void countFallback(String operation, Future<?> original) {
+        Counter counter = counter(operation);
+        original.onComplete(ar -> {
+            counter.calls.increment();
+            if (ar.failed()) {
+                counter.fallbacks.increment();
+            } else if (ar.result() == null) {
+                counter.defaults.increment();
+            }
+        });
+    }
+
+    /**
+     * Take a snapshot of all the counters, sorted by label.
+     *
+     * @return the map from label to snapshot
+     */
+    public static Map<String, Snapshot> snapshot() {
+        Map<String, Snapshot> snapshots = new TreeMap<>();
+        COUNTERS.forEach((label, counter) -> snapshots.put(label, counter.snapshot()));
+        return Collections.unmodifiableMap(snapshots);
+    }
+
+    /**
+     * Take a snapshot of the counter of {@code label}.
+     *
+     * @param label the label
+     * @return the snapshot, all zeros if nothing is counted with {@code label}
+     */
+    public static Snapshot snapshot(String label) {
+        Counter counter = COUNTERS.get(label);
+        return counter == null ? new Snapshot(0, 0, 0) : counter.snapshot();
+    }
+
+    /**
+     * Remove all the counters.
+     */
+    public static void reset() {
+        COUNTERS.clear();
+    }
+
+    private static Counter counter(String operation) {
+        String label = LABEL.get();
+        return COUNTERS.computeIfAbsent(label == null ? operation : label, _label -> new Counter());
+    }
+
+    private static final class Counter {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder defaults = new LongAdder();
+        private final LongAdder fallbacks = new LongAdder();
+
+        private Snapshot snapshot() {
+            return new Snapshot(calls.sum(), defaults.sum(), fallbacks.sum());
+        }
+    }
+
+    /**
+     * A snapshot of the counter of a label.
+     */
+    @Value
+    public static class Snapshot {
+
+        /**
+         * The count of the calls whose original {@code Future}s completed.
+         */
+        long calls;
+
+        /**
+         * The count of the calls that used the default value for the original {@code Future}s succeeded with
+         * {@code null}.
+         */
+        long defaults;
+
+        /**
+         * The count of the calls that used the fallback value for the original {@code Future}s failed.
+         */
+        long fallbacks;
+
+        /**
+         * Return the count of the calls that used the default or fallback value.
+         */
+        public long hits() {
+            return defaults + fallbacks;
+        }
+
+        /**
+         * Return the rate of the calls that used the default or fallback value, or {@code 0} if no call.
+         */
+        public double hitRate() {
+            return calls == 0 ? 0 : (double) hits() / calls;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.metrics;
+
+/**
+ * The SPI to record the executions of the future combinators.
+ * <p>
+ * Implementations are registered through the standard {@link java.util.ServiceLoader} mechanism, i.e. listed in
+ * {@code META-INF/services/me.hltj.vertx.metrics.FutureMetrics}, and loaded once when {@link Metrics} is initialized.
+ * When no implementation is registered, the combinators skip recording entirely.
+ * <p>
+ * Implementations are called on the threads where the recorded {@code Future}s complete, so they must be thread-safe,
+ * cheap and never throw.
+ */
+public interface FutureMetrics {
+
+    /**
+     * Record an execution of a future combinator.
+     *
+     * @param operation    the operation name, e.g. {@code "FutureUtils.joinWrap"}
+     * @param outcome      the outcome of the result {@code Future}
+     * @param latencyNanos the latency in nanoseconds between the combinator is called and the result {@code Future}
+     *                     completes
+     */
+    void record(String operation, Outcome outcome, long latencyNanos);
+
+    /**
+     * Record the latency of a slot of a composite future tuple in slot timing mode, e.g.
+     * {@link me.hltj.vertx.future.CompositeFutureTuple2#timeSlots(String)}.
+     * <p>
+     * The default implementation does nothing.
+     *
+     * @param label        the label of the composite future tuple
+     * @param slot         the index of the slot
+     * @param latencyNanos the latency in nanoseconds between the slot timing mode is turned on and the slot completes
+     */
+    default void recordSlot(String label, int slot, long latencyNanos) {
+    }
+
+    /**
+     * Record the slot that completes last (also known as the critical path) of a composite future tuple in slot timing
+     * mode, when all the slots complete.
+     * <p>
+     * The default implementation does nothing.
+     *
+     * @param label        the label of the composite future tuple
+     * @param slot         the index of the slot that completes last
+     * @param latencyNanos the latency in nanoseconds between the slot timing mode is turned on and the slot completes
+     */
+    default void recordCriticalSlot(String label, int slot, long latencyNanos) {
+    }
+
+    /**
+     * Record an invocation of a function passed to a future combinator that takes longer than the threshold, when
+     * {@link BlockingDetector} is enabled.
+     * <p>
+     * The default implementation does nothing.
+     *
+     * @param operation    the operation name, e.g. {@code "CompositeFutureTuple2.applift"}
+     * @param elapsedNanos the elapsed time in nanoseconds of the invocation
+     * @param trace        the stack trace where the function was passed to the combinator, or {@code null} if not
+     *                     sampled
+     */
+    default void recordBlocking(String operation, long elapsedNanos, Throwable trace) {
+    }
+
+    /**
+     * The outcome of a recorded execution.
+     */
+    enum Outcome {
+        /**
+         * The result {@code Future} succeeded with a non-null value.
+         */
+        SUCCESS,
+
+        /**
+         * The result {@code Future} failed.
+         */
+        FAILURE,
+
+        /**
+         * The result {@code Future} succeeded with {@code null}.
+         */
+        EMPTY,
+
+        /**
+         * The original {@code Future} failed or succeeded with {@code null}, and a fallback value was used.
+         */
+        FALLBACK
+    }
+}
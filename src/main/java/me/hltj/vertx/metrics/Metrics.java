@@ -0,0 +1,227 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.metrics;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import me.hltj.vertx.metrics.FutureMetrics.Outcome;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.Set;
+
+/**
+ * The entry of the {@link FutureMetrics} SPI used by the future combinators.
+ * <p>
+ * The combinators check {@link #SPI} before anything else, and only take the start time and call the recording
+ * methods when it is not {@code null}, so there is no overhead but a static final field read when no
+ * {@code FutureMetrics} is registered.
+ * <p>
+ * On Java 11 or above, the JFR events of the combinators are emitted by a built-in {@code FutureMetrics} if the system
+ * property {@value #JFR_PROPERTY} is {@code true}. The {@link MetricsRegistry#global()} registry is registered if the
+ * system property {@value #REGISTRY_PROPERTY} is {@code true}.
+ * <p>
+ * The opt-in diagnostics, i.e. {@link StuckFutureDetector}, {@link AssemblyTrace}, {@link BlockingDetector},
+ * {@link FallbackCounters} and the context propagation of the future combinators, share the gate
+ * {@link #diagnosing()}, which is open only while any of them is enabled. The combinators check it once and skip all
+ * the diagnostics when it is closed, so there is no overhead but a static volatile field read when none of them is
+ * enabled.
+ */
+public final class Metrics {
+
+    /**
+     * The system property to turn on the built-in {@code FutureMetrics} that emits JFR events.
+     */
+    public static final String JFR_PROPERTY = "me.hltj.vertx.metrics.jfr";
+
+    /**
+     * The system property to register the global {@link MetricsRegistry}.
+     */
+    public static final String REGISTRY_PROPERTY = "me.hltj.vertx.metrics.registry";
+
+    private static final String JFR_METRICS_CLASS = "me.hltj.vertx.metrics.jfr.JfrFutureMetrics";
+
+    /**
+     * The registered {@link FutureMetrics}, or {@code null} if none is registered. If more than one implementation
+     * are registered, it is a {@code FutureMetrics} that delegates to all of them.
+     */
+    public static final FutureMetrics SPI = load();
+
+    private static final Set<Class<?>> DIAGNOSTICS = new HashSet<>();
+    private static volatile boolean diagnosing = false;
+
+    private Metrics() {
+    }
+
+    /**
+     * Return whether any of the opt-in diagnostics is enabled.
+     */
+    public static boolean diagnosing() {
+        return diagnosing;
+    }
+
+    /**
+     * Mark the opt-in diagnostic {@code diagnostic} as enabled or disabled, which opens or closes the gate
+     * {@link #diagnosing()} accordingly.
+     *
+     * @param diagnostic the class of the diagnostic
+     * @param enabled    whether the diagnostic is enabled
+     */
+    public static synchronized void diagnostic(Class<?> diagnostic, boolean enabled) {
+        if (enabled) {
+            DIAGNOSTICS.add(diagnostic);
+        } else {
+            DIAGNOSTICS.remove(diagnostic);
+        }
+
+        diagnosing = !DIAGNOSTICS.isEmpty();
+    }
+
+    /**
+     * Record the execution of {@code operation} when {@code future} completes.
+     *
+     * @param operation  the operation name
+     * @param startNanos the start time by {@link System#nanoTime()}
+     * @param future     the result {@code Future}
+     * @param <T>        the type parameter of the {@code Future}
+     * @return the {@code future} itself
+     */
+    public static <T> Future<T> record(String operation, long startNanos, Future<T> future) {
+        future.onComplete(ar -> SPI.record(operation, outcome(ar), System.nanoTime() - startNanos));
+        return future;
+    }
+
+    /**
+     * Record the execution of a fallback {@code operation} when {@code future} completes, the outcome is
+     * {@link Outcome#FALLBACK} if the {@code original} future failed or succeeded with {@code null}.
+     *
+     * @param operation  the operation name
+     * @param startNanos the start time by {@link System#nanoTime()}
+     * @param original   the original {@code Future} that might be replaced with a fallback value
+     * @param future     the result {@code Future}
+     * @param <T>        the type parameter of the {@code Future}
+     * @return the {@code future} itself
+     */
+    public static <T> Future<T> recordFallback(
+            String operation, long startNanos, Future<T> original, Future<T> future
+    ) {
+        future.onComplete(ar -> {
+            Outcome outcome = original.failed() || original.result() == null ? Outcome.FALLBACK : outcome(ar);
+            SPI.record(operation, outcome, System.nanoTime() - startNanos);
+        });
+        return future;
+    }
+
+    /**
+     * Notify the opt-in diagnostics, i.e. {@link StuckFutureDetector} and {@link AssemblyTrace}, that a
+     * {@link Future} is assembled by the future combinator {@code operation}.
+     *
+     * @param operation the operation name
+     * @param future    the {@code Future}
+     * @param <F>       the type of the {@code Future}
+     * @return the {@code future} itself
+     */
+    public static <F extends Future<?>> F assembled(String operation, F future) {
+        if (!diagnosing) {
+            return future;
+        }
+
+        return AssemblyTrace.attach(operation, StuckFutureDetector.track(operation, future));
+    }
+
+    private static Outcome outcome(AsyncResult<?> ar) {
+        if (ar.failed()) {
+            return Outcome.FAILURE;
+        }
+
+        return ar.result() == null ? Outcome.EMPTY : Outcome.SUCCESS;
+    }
+
+    private static FutureMetrics load() {
+        List<FutureMetrics> metricsList = new ArrayList<>();
+        ServiceLoader.load(FutureMetrics.class, FutureMetrics.class.getClassLoader()).forEach(metricsList::add);
+        if (Boolean.getBoolean(REGISTRY_PROPERTY)) {
+            metricsList.add(MetricsRegistry.global());
+        }
+        if (Boolean.getBoolean(JFR_PROPERTY)) {
+            FutureMetrics jfrMetrics = loadJfr();
+            if (jfrMetrics != null) {
+                metricsList.add(jfrMetrics);
+            }
+        }
+
+        if (metricsList.isEmpty()) {
+            return null;
+        } else if (metricsList.size() == 1) {
+            return metricsList.get(0);
+        }
+
+        return new AllMetrics(metricsList);
+    }
+
+    private static FutureMetrics loadJfr() {
+        try {
+            return Class.forName(JFR_METRICS_CLASS).asSubclass(FutureMetrics.class).getConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    private static final class AllMetrics implements FutureMetrics {
+        private final FutureMetrics[] metricsArray;
+
+        private AllMetrics(List<FutureMetrics> metricsList) {
+            this.metricsArray = metricsList.toArray(new FutureMetrics[0]);
+        }
+
+        @Override
+        public void record(String operation, Outcome outcome, long latencyNanos) {
+            for (FutureMetrics metrics : metricsArray) {
+                metrics.record(operation, outcome, latencyNanos);
+            }
+        }
+
+        @Override
+        public void recordSlot(String label, int slot, long latencyNanos) {
+            for (FutureMetrics metrics : metricsArray) {
+                metrics.recordSlot(label, slot, latencyNanos);
+            }
+        }
+
+        @Override
+        public void recordCriticalSlot(String label, int slot, long latencyNanos) {
+            for (FutureMetrics metrics : metricsArray) {
+                metrics.recordCriticalSlot(label, slot, latencyNanos);
+            }
+        }
+
+        @Override
+        public void recordBlocking(String operation, long elapsedNanos, Throwable trace) {
+            for (FutureMetrics metrics : metricsArray) {
+                metrics.recordBlocking(operation, elapsedNanos, trace);
+            }
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.metrics;
+
+import lombok.Value;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * An in-process {@link FutureMetrics} that records the latencies of the combinators into {@link LatencyHistogram}s
+ * per operation, and takes the percentiles by {@link #snapshot()}.
+ * <p>
+ * The slot latencies of the composite future tuples in slot timing mode are recorded under
+ * {@code "<label>#<slot>"}, and the latencies of the critical slots under {@code "<label>#<slot>#critical"}, so the
+ * count of the latter tells how often the slot completes last. Their histograms are cached per label in an array
+ * indexed by slot, so the names are built only on the first record of each slot.
+ * <p>
+ * Each operation has a few stripes of histograms chosen by the recording thread, so the event loops seldom contend
+ * on the same bucket counts; the stripes are merged only when taking a snapshot.
+ * <p>
+ * The {@link #global()} registry is registered as a {@code FutureMetrics} if the system property
+ * {@value Metrics#REGISTRY_PROPERTY} is {@code true}. A registry can also be used standalone, e.g. delegated to from
+ * another {@code FutureMetrics}.
+ */
+public final class MetricsRegistry implements FutureMetrics {
+    private static final MetricsRegistry GLOBAL = new MetricsRegistry();
+    private static final int STRIPES = stripes(Runtime.getRuntime().availableProcessors());
+
+    private final ConcurrentMap<String, LatencyHistogram[]> histograms = new ConcurrentHashMap<>();
+    // label -> stripes of the histograms of slot `i` at `2 * i`, and of the critical slot `i` at `2 * i + 1`
+    private final ConcurrentMap<String, LatencyHistogram[][]> slotHistograms = new ConcurrentHashMap<>();
+
+    /**
+     * Return the global registry.
+     */
+    public static MetricsRegistry global() {
+        return GLOBAL;
+    }
+
+    @Override
+    public void record(String operation, Outcome outcome, long latencyNanos) {
+        record(operation, latencyNanos);
+    }
+
+    @Override
+    public void recordSlot(String label, int slot, long latencyNanos) {
+        record(slotStripes(label, slot, false), latencyNanos);
+    }
+
+    @Override
+    public void recordCriticalSlot(String label, int slot, long latencyNanos) {
+        record(slotStripes(label, slot, true), latencyNanos);
+    }
+
+    /**
+     * Take a snapshot of the latency percentiles of all the operations and slots, sorted by name.
+     *
+     * @return the map from operation name to snapshot
+     */
+    public Map<String, Snapshot> snapshot() {
+        Map<String, Snapshot> snapshots = new TreeMap<>();
+        histograms.forEach((operation, stripes) -> snapshots.put(operation, snapshot(stripes)));
+        return Collections.unmodifiableMap(snapshots);
+    }
+
+    /**
+     * Take a snapshot of the latency percentiles of {@code operation}.
+     *
+     * @param operation the operation name
+     * @return the snapshot, all zeros if nothing is recorded for {@code operation}
+     */
+    public Snapshot snapshot(String operation) {
+        LatencyHistogram[] stripes = histograms.get(operation);
+        return stripes == null ? new Snapshot(0, 0, 0, 0, 0) : snapshot(stripes);
+    }
+
+    /**
+     * Remove all the recorded values.
+     */
+    public void reset() {
+        histograms.clear();
+        slotHistograms.clear();
+    }
+
+    private void record(String name, long latencyNanos) {
+        LatencyHistogram[] stripes = histograms.get(name);
+        if (stripes == null) {
+            stripes = histograms.computeIfAbsent(name, _name -> newStripes());
+        }
+
+        record(stripes, latencyNanos);
+    }
+
+    private static void record(LatencyHistogram[] stripes, long latencyNanos) {
+        stripes[(int) Thread.currentThread().getId() & (STRIPES - 1)].record(latencyNanos);
+    }
+
+    private LatencyHistogram[] slotStripes(String label, int slot, boolean critical) {
+        int index = 2 * slot + (critical ? 1 : 0);
+        LatencyHistogram[][] cached = slotHistograms.get(label);
+        if (cached != null && index < cached.length && cached[index] != null) {
+            return cached[index];
+        }
+
+        String name = critical ? label + "#" + slot + "#critical" : label + "#" + slot;
+        LatencyHistogram[] stripes = histograms.computeIfAbsent(name, _name -> newStripes());
+        // copied on write, so that the cached arrays are always safely published
+        slotHistograms.compute(label, (_label, old) -> {
+            LatencyHistogram[][] grown = old == null
+                    ? new LatencyHistogram[index + 1][]
+                    : Arrays.copyOf(old, Math.max(old.length, index + 1));
+            grown[index] = stripes;
+            return grown;
+        });
+
+        return stripes;
+    }
+
+    private static Snapshot snapshot(LatencyHistogram[] stripes) {
+        LatencyHistogram merged = new LatencyHistogram();
+        for (LatencyHistogram stripe : stripes) {
+            merged.merge(stripe);
+        }
+
+        long[] percentiles = merged.percentiles(0.5, 0.9, 0.99, 0.999);
+        return new Snapshot(merged.count(), percentiles[0], percentiles[1], percentiles[2], percentiles[3]);
+    }
+
+    private static LatencyHistogram[] newStripes() {
+        LatencyHistogram[] stripes = new LatencyHistogram[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new LatencyHistogram();
+        }
+
+        return stripes;
+    }
+
+    private static int stripes(int processors) {
+        int stripes = 1;
+        while (stripes < processors && stripes < 16) {
+            stripes <<= 1;
+        }
+
+        return stripes;
+    }
+
+    /**
+     * A snapshot of the latency percentiles of an operation, in nanoseconds.
+     */
+    @Value
+    public static class Snapshot {
+
+        /**
+         * The count of the recorded executions.
+         */
+        long count;
+
+        /**
+         * The 50th percentile latency.
+         */
+        long p50;
+
+        /**
+         * The 90th percentile latency.
+         */
+        long p90;
+
+        /**
+         * The 99th percentile latency.
+         */
+        long p99;
+
+        /**
+         * The 99.9th percentile latency.
+         */
+        long p999;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.metrics;
+
+import java.net.URL;
+import java.security.CodeSource;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Capture the caller frames of the library, i.e. the stack frames above the frames of the classes of this library.
+ * <p>
+ * This version fills in a full stack trace of a {@link Throwable}, it is replaced by a version based on
+ * {@code StackWalker} on Java 9 or above in the multi-release part of the jar.
+ */
+final class StackFrames {
+    private static final URL LIBRARY_LOCATION = location(Metrics.class);
+    private static final Map<String, Boolean> LIBRARY_CLASSES = new ConcurrentHashMap<>();
+
+    private StackFrames() {
+    }
+
+    /**
+     * Capture at most {@code limit} caller frames of the library.
+     */
+    static StackTraceElement[] capture(int limit) {
+        StackTraceElement[] stack = new Throwable().getStackTrace();
+        int begin = 0;
+        while (begin < stack.length && isLibrary(stack[begin].getClassName())) {
+            begin++;
+        }
+
+        return Arrays.copyOfRange(stack, begin, Math.min(stack.length, begin + limit));
+    }
+
+    private static boolean isLibrary(String className) {
+        return className.equals(StackFrames.class.getName())
+                || LIBRARY_CLASSES.computeIfAbsent(className, StackFrames::loadedFromLibrary);
+    }
+
+    private static boolean loadedFromLibrary(String className) {
+        try {
+            return Objects.equals(LIBRARY_LOCATION, location(Class.forName(className, false, loader())));
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private static ClassLoader loader() {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        return loader == null ? StackFrames.class.getClassLoader() : loader;
+    }
+
+    private static URL location(Class<?> type) {
+        try {
+            CodeSource codeSource = type.getProtectionDomain().getCodeSource();
+            return codeSource == null ? null : codeSource.getLocation();
+        } catch (SecurityException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.metrics;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import lombok.Value;
+
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An opt-in detector of the {@link Future}s that stay pending for too long or are garbage collected while pending.
+ * <p>
+ * Once enabled by {@link #enable(Vertx, long, double, Handler)}, a sampled fraction of the {@code Future}s created by
+ * {@code FutureUtils.futurize}, {@code FutureUtils.joinWrap} and the future tuple combinators are tracked through weak
+ * references, so tracking never keeps a {@code Future} alive. A periodic Vert.x timer scans the tracked
+ * {@code Future}s, and reports each one that has been pending longer than the threshold once, with its operation
+ * label and creation stack trace. A tracked {@code Future} that is garbage collected while pending (e.g. a forgotten
+ * {@code Promise}) is reported as collected.
+ */
+public final class StuckFutureDetector {
+    private static volatile StuckFutureDetector active = null;
+
+    private final Vertx vertx;
+    private final long thresholdNanos;
+    private final double sampleRate;
+    private final Handler<StuckFuture> reporter;
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final long timerId;
+
+    private StuckFutureDetector(Vertx vertx, long thresholdMs, double sampleRate, Handler<StuckFuture> reporter) {
+        this.vertx = vertx;
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMs);
+        this.sampleRate = sampleRate;
+        this.reporter = reporter;
+        this.timerId = vertx.setPeriodic(thresholdMs, _id -> scan());
+    }
+
+    /**
+     * Enable the detector.
+     *
+     * @param vertx       the Vert.x instance used to set the periodic scan timer
+     * @param thresholdMs the threshold in milliseconds, also the period of the scan timer
+     * @param sampleRate  the fraction of the {@code Future}s to track, between 0 and 1, e.g. 0.01 for 1%
+     * @param reporter    the handler of the reports
+     * @return the enabled detector
+     * @throws IllegalStateException if a detector is already enabled
+     */
+    public static synchronized StuckFutureDetector enable(
+            Vertx vertx, long thresholdMs, double sampleRate, Handler<StuckFuture> reporter
+    ) {
+        if (thresholdMs < 1) {
+            throw new IllegalArgumentException("thresholdMs must be positive: " + thresholdMs);
+        }
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("sampleRate must be between 0 and 1: " + sampleRate);
+        }
+        if (active != null) {
+            throw new IllegalStateException("a StuckFutureDetector is already enabled");
+        }
+
+        active = new StuckFutureDetector(vertx, thresholdMs, sampleRate, reporter);
+        Metrics.diagnostic(StuckFutureDetector.class, true);
+        return active;
+    }
+
+    /**
+     * Track a {@link Future} created by a future combinator, if a detector is enabled and the {@code Future} is
+     * sampled.
+     *
+     * @param label  the operation label
+     * @param future the {@code Future}
+     * @param <F>    the type of the {@code Future}
+     * @return the {@code future} itself
+     */
+    public static <F extends Future<?>> F track(String label, F future) {
+        StuckFutureDetector detector = active;
+        if (detector != null && !future.isComplete()) {
+            detector.register(label, future);
+        }
+
+        return future;
+    }
+
+    /**
+     * Disable this detector and stop tracking.
+     */
+    public void disable() {
+        synchronized (StuckFutureDetector.class) {
+            if (active == this) {
+                active = null;
+                Metrics.diagnostic(StuckFutureDetector.class, false);
+            }
+        }
+
+        vertx.cancelTimer(timerId);
+        entries.clear();
+    }
+
+    /**
+     * Return the count of the tracked {@link Future}s that are still pending.
+     */
+    public int pending() {
+        return entries.size();
+    }
+
+    private void register(String label, Future<?> future) {
+        if (sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+
+        Long id = sequence.incrementAndGet();
+        entries.put(id, new Entry(future, label, System.nanoTime(), new Throwable("created by " + label)));
+        future.onComplete(_ar -> entries.remove(id));
+    }
+
+    private void scan() {
+        long now = System.nanoTime();
+        for (Iterator<Entry> iterator = entries.values().iterator(); iterator.hasNext(); ) {
+            Entry entry = iterator.next();
+            long ageMs = TimeUnit.NANOSECONDS.toMillis(now - entry.createdNanos);
+            if (entry.get() == null) {
+                iterator.remove();
+                reporter.handle(new StuckFuture(entry.label, ageMs, entry.creationTrace, true));
+            } else if (!entry.reported && now - entry.createdNanos > thresholdNanos) {
+                entry.reported = true;
+                reporter.handle(new StuckFuture(entry.label, ageMs, entry.creationTrace, false));
+            }
+        }
+    }
+
+    private static final class Entry extends WeakReference<Future<?>> {
+        private final String label;
+        private final long createdNanos;
+        private final Throwable creationTrace;
+        private boolean reported = false;
+
+        private Entry(Future<?> future, String label, long createdNanos, Throwable creationTrace) {
+            super(future);
+            this.label = label;
+            this.createdNanos = createdNanos;
+            this.creationTrace = creationTrace;
+        }
+    }
+
+    /**
+     * A report of a {@link Future} that has been pending longer than the threshold, or has been garbage collected
+     * while pending.
+     */
+    @Value
+    public static class StuckFuture {
+
+        /**
+         * The operation label of the combinator that created the {@code Future}.
+         */
+        String label;
+
+        /**
+         * The age in milliseconds of the {@code Future} when reported.
+         */
+        long ageMs;
+
+        /**
+         * The stack trace where the {@code Future} was created.
+         */
+        Throwable creationTrace;
+
+        /**
+         * Whether the {@code Future} has been garbage collected while pending.
+         */
+        boolean collected;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.metrics;
+
+import java.net.URL;
+import java.security.CodeSource;
+import java.util.Objects;
+
+/**
+ * Capture the caller frames of the library, i.e. the stack frames above the frames of the classes of this library.
+ * <p>
+ * This version walks only the frames needed by {@link StackWalker}, it replaces the version that fills in a full
+ * stack trace of a {@link Throwable} on Java 9 or above.
+ */
+final class StackFrames {
+    private static final URL LIBRARY_LOCATION = location(Metrics.class);
+    private static final StackWalker WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+    private static final ClassValue<Boolean> LIBRARY_CLASSES = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return type == StackFrames.class || Objects.equals(LIBRARY_LOCATION, location(type));
+        }
+    };
+
+    private StackFrames() {
+    }
+
+    /**
+     * Capture at most {@code limit} caller frames of the library.
+     */
+    static StackTraceElement[] capture(int limit) {
+        return WALKER.walk(frames -> frames
+                .dropWhile(frame -> LIBRARY_CLASSES.get(frame.getDeclaringClass()))
+                .limit(limit)
+                .map(StackWalker.StackFrame::toStackTraceElement)
+                .toArray(StackTraceElement[]::new)
+        );
+    }
+
+    private static URL location(Class<?> type) {
+        try {
+            CodeSource codeSource = type.getProtectionDomain().getCodeSource();
+            return codeSource == null ? null : codeSource.getLocation();
+        } catch (SecurityException e) {
+            return null;
+        }
+    }
+}
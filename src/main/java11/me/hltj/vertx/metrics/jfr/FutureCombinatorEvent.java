@@ -0,0 +1,57 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * The JFR event of an execution of a future combinator, committed when the result {@code Future} completes.
+ */
+@Name("me.hltj.vertx.FutureCombinator")
+@Label("Future Combinator")
+@Category({"Vert.x", "Future Utils"})
+@Description("An execution of a future combinator")
+@StackTrace(false)
+public class FutureCombinatorEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Arity")
+    @Description("The count of the Futures combined, 1 for the FutureUtils methods")
+    int arity;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Latency")
+    @Description("The latency between the combinator is called and the result Future completes")
+    @Timespan(Timespan.NANOSECONDS)
+    long latency;
+}
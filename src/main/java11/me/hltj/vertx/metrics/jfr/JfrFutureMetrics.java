@@ -0,0 +1,76 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.metrics.jfr;
+
+import me.hltj.vertx.metrics.FutureMetrics;
+
+/**
+ * A {@link FutureMetrics} that emits the JFR events {@link FutureCombinatorEvent} and {@link FallbackTriggeredEvent}.
+ * <p>
+ * It requires Java 11 or above, and is packaged in the multi-release part of the jar. It is loaded by
+ * {@link me.hltj.vertx.metrics.Metrics} when the system property {@code me.hltj.vertx.metrics.jfr} is {@code true},
+ * and ignored silently on Java 8. The events are only created and committed when they are enabled in the running JFR
+ * recordings, so a disabled event costs an {@link jdk.jfr.Event#isEnabled()} check.
+ */
+public final class JfrFutureMetrics implements FutureMetrics {
+
+    @Override
+    public void record(String operation, Outcome outcome, long latencyNanos) {
+        FutureCombinatorEvent event = new FutureCombinatorEvent();
+        if (event.isEnabled()) {
+            event.operation = operation;
+            event.arity = arity(operation);
+            event.outcome = outcome.name();
+            event.latency = latencyNanos;
+            event.commit();
+        }
+
+        if (outcome == Outcome.FALLBACK) {
+            FallbackTriggeredEvent fallbackEvent = new FallbackTriggeredEvent();
+            if (fallbackEvent.isEnabled()) {
+                fallbackEvent.operation = operation;
+                fallbackEvent.arity = arity(operation);
+                fallbackEvent.latency = latencyNanos;
+                fallbackEvent.commit();
+            }
+        }
+    }
+
+    /**
+     * Parse the arity from the operation name, e.g. 3 for {@code "CompositeFutureTuple3.applift"}, and 1 for
+     * {@code "FutureUtils.wrap"} that has no digits before the dot.
+     */
+    static int arity(String operation) {
+        int end = operation.indexOf('.');
+        if (end < 0) {
+            end = operation.length();
+        }
+
+        int begin = end;
+        while (begin > 0 && Character.isDigit(operation.charAt(begin - 1))) {
+            begin--;
+        }
+
+        return begin == end ? 1 : Integer.parseInt(operation.substring(begin, end));
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.future;
+
+import io.vertx.core.Future;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Await {@link Future}s in blocking style on virtual threads.
+ * <p>
+ * This version is for Java 21 or above. Awaiting parks only the current virtual thread, and is rejected on the
+ * platform threads (e.g. the event loops), so it never blocks an event loop.
+ */
+public final class Awaits {
+
+    private Awaits() {
+    }
+
+    /**
+     * Park the current virtual thread until {@code future} completes.
+     *
+     * @param future the {@code Future}
+     * @param <T>    the type parameter of the {@code Future}
+     * @return the result of {@code future} if it succeeds
+     * @throws IllegalStateException if the current thread is not a virtual thread, or is interrupted while parking
+     * @throws RuntimeException      the failure cause of {@code future} if it is unchecked, or a
+     *                               {@link CompletionException} wrapping the checked cause
+     */
+    public static <T> T await(Future<T> future) {
+        if (!Thread.currentThread().isVirtual()) {
+            throw new IllegalStateException(
+                    "await can only be called on a virtual thread, but called on " + Thread.currentThread()
+            );
+        }
+
+        if (future.isComplete()) {
+            return result(future);
+        }
+
+        CompletableFuture<Void> completion = new CompletableFuture<>();
+        future.onComplete(_ar -> completion.complete(null));
+        try {
+            completion.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while awaiting", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+
+        return result(future);
+    }
+
+    private static <T> T result(Future<T> future) {
+        if (future.succeeded()) {
+            return future.result();
+        }
+
+        Throwable cause = future.cause();
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        } else if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+
+        throw new CompletionException(cause);
+    }
+}
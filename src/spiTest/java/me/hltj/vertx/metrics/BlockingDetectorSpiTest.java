@@ -0,0 +1,119 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.metrics;
+
+import io.vertx.core.Future;
+import lombok.val;
+import me.hltj.vertx.FutureUtils;
+import me.hltj.vertx.future.FutureTuple2;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static me.hltj.vertx.SharedTestUtils.assertSucceedWith;
+import static me.hltj.vertx.metrics.RecordingFutureMetrics.records;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BlockingDetectorSpiTest {
+    private BlockingDetector detector = null;
+
+    @BeforeEach
+    void setUp() {
+        RecordingFutureMetrics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (detector != null) {
+            detector.disable();
+        }
+    }
+
+    @Test
+    void enable_twice() {
+        detector = BlockingDetector.enable(5, 1);
+        assertThrows(IllegalStateException.class, () -> BlockingDetector.enable(5, 1));
+    }
+
+    @Test
+    void wrap() {
+        detector = BlockingDetector.enable(5, 1);
+        assertSucceedWith(1, FutureUtils.wrap(() -> 1));
+        assertTrue(records("blocking:FutureUtils.wrap").isEmpty());
+
+        assertSucceedWith(2, FutureUtils.wrap(() -> {
+            sleep(20);
+            return 2;
+        }));
+        val blocking = records("blocking:FutureUtils.wrap");
+        assertEquals(1, blocking.size());
+        assertTrue(blocking.get(0).getLatencyNanos() >= TimeUnit.MILLISECONDS.toNanos(20));
+        assertEquals("passed to FutureUtils.wrap", blocking.get(0).getTrace().getMessage());
+    }
+
+    @Test
+    void applift() {
+        detector = BlockingDetector.enable(5, 0);
+        val future = FutureTuple2.of(Future.succeededFuture(1), Future.succeededFuture("a")).join().applift((i, s) -> {
+            sleep(20);
+            return s + i;
+        });
+
+        assertSucceedWith("a1", future);
+        val blocking = records("blocking:CompositeFutureTuple2.applift");
+        assertEquals(1, blocking.size());
+        assertNull(blocking.get(0).getTrace());
+    }
+
+    @Test
+    void joinThrough_throws() {
+        detector = BlockingDetector.enable(5, 1);
+        val future = FutureTuple2.of(Future.succeededFuture(1), Future.failedFuture("error")).join()
+                .<Integer>joinThrough((f0, f1) -> {
+                    sleep(20);
+                    throw new IllegalStateException("boom");
+                });
+
+        assertTrue(future.failed());
+        assertEquals(1, records("blocking:CompositeFutureTuple2.joinThrough").size());
+    }
+
+    @Test
+    void disable() {
+        detector = BlockingDetector.enable(0, 1);
+        detector.disable();
+
+        FutureUtils.wrap(() -> 1);
+        assertTrue(records("blocking:FutureUtils.wrap").isEmpty());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
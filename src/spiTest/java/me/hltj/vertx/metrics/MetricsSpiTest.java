@@ -0,0 +1,124 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.metrics;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import lombok.val;
+import me.hltj.vertx.FutureUtils;
+import me.hltj.vertx.future.CompositeFutureWrapper;
+import me.hltj.vertx.metrics.FutureMetrics.Outcome;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static java.util.Arrays.asList;
+import static me.hltj.vertx.metrics.RecordingFutureMetrics.records;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsSpiTest {
+
+    @BeforeEach
+    void setUp() {
+        RecordingFutureMetrics.clear();
+    }
+
+    @Test
+    void spi() {
+        assertTrue(Metrics.SPI instanceof RecordingFutureMetrics);
+    }
+
+    @Test
+    void wrap() {
+        FutureUtils.wrap(() -> 1);
+        FutureUtils.wrap(() -> null);
+        FutureUtils.wrap("%", Integer::parseInt);
+
+        assertEquals(asList(Outcome.SUCCESS, Outcome.EMPTY, Outcome.FAILURE), outcomes("FutureUtils.wrap"));
+    }
+
+    @Test
+    void joinWrap() {
+        Promise<Integer> promise = Promise.promise();
+        FutureUtils.joinWrap(promise::future);
+        assertTrue(records("FutureUtils.joinWrap").isEmpty());
+
+        promise.complete(1);
+        assertEquals(asList(Outcome.SUCCESS), outcomes("FutureUtils.joinWrap"));
+        assertTrue(records("FutureUtils.joinWrap").get(0).getLatencyNanos() >= 0);
+    }
+
+    @Test
+    void fallbackWith() {
+        FutureUtils.fallbackWith(Future.succeededFuture(1), 0);
+        FutureUtils.fallbackWith(Future.succeededFuture(), 0);
+        FutureUtils.fallbackWith(Future.failedFuture("error"), 0);
+        FutureUtils.<Integer>fallbackWith(Future.failedFuture("error"), t -> 0, () -> 0);
+        FutureUtils.<Integer>fallbackWith(Future.succeededFuture(1), t -> 0, () -> 0);
+
+        assertEquals(
+                asList(Outcome.SUCCESS, Outcome.FALLBACK, Outcome.FALLBACK, Outcome.FALLBACK, Outcome.SUCCESS),
+                outcomes("FutureUtils.fallbackWith")
+        );
+    }
+
+    @Test
+    void compositeFutureTuple() {
+        val composite = FutureUtils.join(Future.succeededFuture(1), Future.succeededFuture(2));
+        composite.applift(Integer::sum);
+        composite.mapTyped((v0, v1) -> null);
+        composite.joinApplift((v0, v1) -> Future.failedFuture("error"));
+        composite.through((fut0, fut1) -> 0);
+
+        assertEquals(asList(Outcome.SUCCESS, Outcome.EMPTY), outcomes("CompositeFutureTuple2.applift"));
+        assertEquals(asList(Outcome.FAILURE), outcomes("CompositeFutureTuple2.joinApplift"));
+        assertEquals(asList(Outcome.SUCCESS), outcomes("CompositeFutureTuple2.joinThrough"));
+    }
+
+    @Test
+    void compositeFutureWrapper() {
+        val composite = FutureUtils.all(Future.succeededFuture(1), Future.failedFuture("error")).raw();
+        CompositeFutureWrapper.of(composite).through(_composite -> 0);
+
+        assertEquals(asList(Outcome.SUCCESS), outcomes("CompositeFutureWrapper.joinThrough"));
+    }
+
+    @Test
+    void timeSlots() {
+        Promise<Integer> promise = Promise.promise();
+        FutureUtils.all(Future.succeededFuture(0), promise.future()).timeSlots("page");
+        assertEquals(1, records("page#0").size());
+        assertTrue(records("page#1").isEmpty());
+
+        promise.complete(1);
+        assertEquals(1, records("page#1").size());
+        assertEquals(1, records("page!1").size());
+        assertTrue(records("page!0").isEmpty());
+    }
+
+    private static List<Outcome> outcomes(String operation) {
+        return records(operation).stream().map(RecordingFutureMetrics.Record::getOutcome).collect(Collectors.toList());
+    }
+}
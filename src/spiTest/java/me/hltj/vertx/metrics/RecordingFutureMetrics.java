@@ -0,0 +1,72 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.metrics;
+
+import lombok.Value;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link FutureMetrics} registered for tests through {@code META-INF/services}.
+ */
+public class RecordingFutureMetrics implements FutureMetrics {
+    private static final ConcurrentLinkedQueue<Record> RECORDS = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public void record(String operation, Outcome outcome, long latencyNanos) {
+        RECORDS.add(new Record(operation, outcome, latencyNanos, null));
+    }
+
+    @Override
+    public void recordSlot(String label, int slot, long latencyNanos) {
+        RECORDS.add(new Record(label + "#" + slot, null, latencyNanos, null));
+    }
+
+    @Override
+    public void recordCriticalSlot(String label, int slot, long latencyNanos) {
+        RECORDS.add(new Record(label + "!" + slot, null, latencyNanos, null));
+    }
+
+    @Override
+    public void recordBlocking(String operation, long elapsedNanos, Throwable trace) {
+        RECORDS.add(new Record("blocking:" + operation, null, elapsedNanos, trace));
+    }
+
+    public static List<Record> records(String operation) {
+        return RECORDS.stream().filter(record -> record.operation.equals(operation)).collect(Collectors.toList());
+    }
+
+    public static void clear() {
+        RECORDS.clear();
+    }
+
+    @Value
+    public static class Record {
+        String operation;
+        Outcome outcome;
+        long latencyNanos;
+        Throwable trace;
+    }
+}
@@ -28,10 +28,19 @@ import lombok.val;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static me.hltj.vertx.SharedTestUtils.onContext;
 import static org.junit.jupiter.api.Assertions.*;
 
 class FutureUtilsTest {
@@ -221,6 +230,248 @@ class FutureUtilsTest {
         assertFailedWith(NumberFormatException.class, "null", FutureUtils.flatWrap(null, stringToIntFuture));
     }
 
+    @Test
+    void fromCompletionStage_completed() {
+        val vertx = Vertx.vertx();
+        val context = vertx.getOrCreateContext();
+        SharedTestUtils.assertSucceedWith(1, FutureUtils.fromCompletionStage(completedFuture(1), context));
+
+        val failed = new CompletableFuture<Integer>();
+        failed.completeExceptionally(new IllegalStateException("failed"));
+        assertFailedWith(IllegalStateException.class, "failed", FutureUtils.fromCompletionStage(failed, context));
+
+        val cancelled = new CompletableFuture<Integer>();
+        cancelled.cancel(false);
+        SharedTestUtils.assertFailedWith(
+                CancellationException.class, FutureUtils.fromCompletionStage(cancelled, context)
+        );
+        vertx.close();
+    }
+
+    @SneakyThrows
+    @Test
+    void fromCompletionStage_otherThread() {
+        val vertx = Vertx.vertx();
+        val context = vertx.getOrCreateContext();
+        val stage = new CompletableFuture<Integer>();
+        val latch = new CountDownLatch(1);
+        val contexts = new ArrayList<Context>();
+
+        val future = FutureUtils.fromCompletionStage(stage.thenApply(i -> 2 / i), context);
+        future.onComplete(_ar -> {
+            contexts.add(Vertx.currentContext());
+            latch.countDown();
+        });
+        new Thread(() -> stage.complete(0)).start();
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertSame(context, contexts.get(0));
+        assertFailedWith(ArithmeticException.class, "/ by zero", future);
+        vertx.close();
+    }
+
+    @Test
+    void fromCompletionStage_sameContext() {
+        val vertx = Vertx.vertx();
+        onContext(vertx, () -> {
+            val stage = new CompletableFuture<Integer>();
+            val future = FutureUtils.fromCompletionStage(stage, Vertx.currentContext());
+            assertFalse(future.isComplete());
+
+            stage.complete(1);
+            SharedTestUtils.assertSucceedWith(1, future);
+            return future;
+        });
+        vertx.close();
+    }
+
+    @SneakyThrows
+    @Test
+    void toCompletionStage() {
+        assertEquals(1, FutureUtils.toCompletionStage(Future.succeededFuture(1)).toCompletableFuture().getNow(0));
+
+        val failed = FutureUtils.toCompletionStage(Future.failedFuture(new IllegalStateException("failed")));
+        assertTrue(failed.toCompletableFuture().isCompletedExceptionally());
+
+        val promise = Promise.<Integer>promise();
+        val stage = FutureUtils.toCompletionStage(promise.future()).toCompletableFuture();
+        assertFalse(stage.isDone());
+        promise.complete(2);
+        assertEquals(2, stage.get());
+
+        val failing = Promise.<Integer>promise();
+        val failedStage = FutureUtils.toCompletionStage(failing.future()).toCompletableFuture();
+        failing.fail(new IllegalArgumentException("bad"));
+        val e = assertThrows(ExecutionException.class, failedStage::get);
+        assertTrue(e.getCause() instanceof IllegalArgumentException);
+    }
+
+    @Test
+    void fold() {
+        val promise0 = Promise.<Integer>promise();
+        val promise1 = Promise.<Integer>promise();
+        val order = new ArrayList<Integer>();
+        val future = FutureUtils.fold(
+                asList(promise0.future(), Future.succeededFuture(2), promise1.future()), 0, (sum, i) -> {
+                    order.add(i);
+                    return sum + i;
+                }
+        );
+
+        assertEquals(singletonList(2), order);
+        promise1.complete(3);
+        assertFalse(future.isComplete());
+        promise0.complete(1);
+        SharedTestUtils.assertSucceedWith(6, future);
+        assertEquals(asList(2, 3, 1), order);
+
+        SharedTestUtils.assertSucceedWith(0, FutureUtils.fold(new ArrayList<Future<Integer>>(), 0, Integer::sum));
+    }
+
+    @Test
+    void fold_failure() {
+        val promise = Promise.<Integer>promise();
+        val future = FutureUtils.fold(
+                asList(promise.future(), Future.failedFuture(new IllegalStateException("failed"))), 0, Integer::sum
+        );
+        assertFailedWith(IllegalStateException.class, "failed", future);
+        promise.complete(1);
+        assertFailedWith(IllegalStateException.class, "failed", future);
+
+        assertFailedWith(
+                ArithmeticException.class, "/ by zero",
+                FutureUtils.fold(asList(Future.succeededFuture(0), Future.succeededFuture(1)), 1, (a, i) -> a / i)
+        );
+    }
+
+    @SneakyThrows
+    @Test
+    void fold_completesOutsideLock() {
+        val promise0 = Promise.<Integer>promise();
+        val promise1 = Promise.<Integer>promise();
+        val future = FutureUtils.fold(asList(promise0.future(), promise1.future()), 0, Integer::sum);
+
+        // completes the other input from another thread while the result handler is running
+        val other = new Thread(() -> promise1.complete(1));
+        future.onComplete(_ar -> {
+            other.start();
+            try {
+                other.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        promise0.fail("failed");
+        assertFalse(other.isAlive());
+        SharedTestUtils.assertFailedWith("failed", future);
+    }
+
+    @SneakyThrows
+    @Test
+    void fold_concurrent() {
+        val promises = new ArrayList<Promise<Integer>>();
+        val futures = new ArrayList<Future<Integer>>();
+        for (int i = 0; i < 1000; i++) {
+            val promise = Promise.<Integer>promise();
+            promises.add(promise);
+            futures.add(promise.future());
+        }
+
+        val future = FutureUtils.fold(futures, 0L, (sum, i) -> sum + i);
+        val threads = new ArrayList<Thread>();
+        for (int t = 0; t < 4; t++) {
+            val start = t;
+            threads.add(new Thread(() -> {
+                for (int i = start; i < promises.size(); i += 4) {
+                    promises.get(i).complete(i);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (val thread : threads) {
+            thread.join();
+        }
+
+        SharedTestUtils.assertSucceedWith(499_500L, future);
+    }
+
+    @Test
+    void topK() {
+        val promise = Promise.<Integer>promise();
+        val future = FutureUtils.topK(asList(
+                Future.succeededFuture(3), Future.succeededFuture(9), promise.future(),
+                Future.succeededFuture(1), Future.succeededFuture(7)
+        ), 3, Comparator.naturalOrder());
+        assertFalse(future.isComplete());
+
+        promise.complete(8);
+        SharedTestUtils.assertSucceedWith(asList(9, 8, 7), future);
+
+        SharedTestUtils.assertSucceedWith(asList(1, 2), FutureUtils.topK(
+                asList(Future.succeededFuture(2), Future.succeededFuture(1)), 5, Comparator.reverseOrder()
+        ));
+        SharedTestUtils.assertSucceedWith(new ArrayList<Integer>(), FutureUtils.topK(
+                new ArrayList<Future<Integer>>(), 1, Comparator.naturalOrder()
+        ));
+    }
+
+    @Test
+    void topK_null() {
+        SharedTestUtils.assertSucceedWith(asList(5, 3), FutureUtils.topK(asList(
+                Future.succeededFuture(3), Future.<Integer>succeededFuture(null), Future.succeededFuture(5)
+        ), 2, Comparator.naturalOrder()));
+        SharedTestUtils.assertSucceedWith(new ArrayList<Integer>(), FutureUtils.topK(
+                asList(Future.<Integer>succeededFuture(null)), 1, Comparator.naturalOrder()
+        ));
+    }
+
+    @Test
+    void topK_failure() {
+        val promise = Promise.<Integer>promise();
+        val future = FutureUtils.topK(
+                asList(promise.future(), Future.failedFuture(new IllegalStateException("failed"))),
+                1, Comparator.naturalOrder()
+        );
+        assertFailedWith(IllegalStateException.class, "failed", future);
+        promise.complete(1);
+        assertFailedWith(IllegalStateException.class, "failed", future);
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> FutureUtils.topK(asList(Future.succeededFuture(1)), 0, Comparator.naturalOrder())
+        );
+    }
+
+    @SneakyThrows
+    @Test
+    void topK_deadline() {
+        val vertx = Vertx.vertx();
+        val pending = Promise.<Integer>promise();
+        val latch = new CountDownLatch(1);
+        val future = FutureUtils.topK(vertx, asList(
+                Future.succeededFuture(1), pending.future(), Future.succeededFuture(5), Future.succeededFuture(3)
+        ), 2, Comparator.naturalOrder(), 50);
+        future.onComplete(_ar -> latch.countDown());
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        SharedTestUtils.assertSucceedWith(asList(5, 3), future);
+        pending.complete(9);
+        SharedTestUtils.assertSucceedWith(asList(5, 3), future);
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> FutureUtils.topK(vertx, asList(Future.succeededFuture(1)), 1, Comparator.naturalOrder(), 0)
+        );
+        vertx.close();
+    }
+
+    @Test
+    void await_unsupported() {
+        val e = assertThrows(UnsupportedOperationException.class, () -> FutureUtils.await(Future.succeededFuture(1)));
+        assertEquals("await requires virtual threads of Java 21 or above", e.getMessage());
+    }
+
     @SneakyThrows
     private static void delayParseInt(String s, Handler<AsyncResult<Integer>> handler) {
         Thread.sleep(1_000);
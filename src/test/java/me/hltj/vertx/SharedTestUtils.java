@@ -23,6 +23,14 @@
 package me.hltj.vertx;
 
 import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import lombok.SneakyThrows;
+import lombok.val;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -42,4 +50,23 @@ public class SharedTestUtils {
         assertTrue(actual.failed());
         assertEquals(expectedMessage, actual.cause().getMessage());
     }
+
+    @SneakyThrows
+    public static void onContext(Vertx vertx, Supplier<Future<?>> body) {
+        val latch = new CountDownLatch(1);
+        val errors = new ArrayList<Throwable>();
+        vertx.runOnContext(_v -> {
+            try {
+                body.get().onComplete(_ar -> latch.countDown());
+            } catch (Throwable t) {
+                errors.add(t);
+                latch.countDown();
+            }
+        });
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        if (!errors.isEmpty()) {
+            throw errors.get(0);
+        }
+    }
 }
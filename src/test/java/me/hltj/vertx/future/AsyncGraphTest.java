@@ -0,0 +1,172 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.future;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import static java.util.Arrays.asList;
+import static me.hltj.vertx.SharedTestUtils.assertFailedWith;
+import static me.hltj.vertx.SharedTestUtils.assertSucceedWith;
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncGraphTest {
+
+    @Test
+    void diamond() {
+        val promises = new HashMap<String, Promise<Integer>>();
+        val started = new ArrayList<String>();
+        val graph = AsyncGraph.create();
+        val a = graph.step("a", () -> start("a", promises, started));
+        val b = graph.step("b", a, x -> start("b", promises, started).map(y -> x + y));
+        val c = graph.step("c", a, x -> start("c", promises, started).map(y -> x * y));
+        val d = graph.step("d", b, c, (x, y) -> Future.succeededFuture(x + ":" + y));
+
+        val future = graph.run();
+        assertEquals(asList("a"), started);
+
+        promises.get("a").complete(2);
+        assertEquals(asList("a", "b", "c"), started);
+
+        promises.get("c").complete(5);
+        assertFalse(d.future().isComplete());
+        promises.get("b").complete(3);
+
+        assertSucceedWith(5, b.future());
+        assertSucceedWith(10, c.future());
+        assertSucceedWith("5:10", d.future());
+        assertTrue(future.succeeded());
+        assertEquals("d", d.name());
+    }
+
+    @Test
+    void maxParallelism() {
+        val promises = new HashMap<String, Promise<Integer>>();
+        val started = new ArrayList<String>();
+        val graph = AsyncGraph.create(2);
+        graph.step("a", () -> start("a", promises, started));
+        graph.step("b", () -> start("b", promises, started));
+        val c = graph.step("c", () -> start("c", promises, started));
+
+        val future = graph.run();
+        assertEquals(asList("a", "b"), started);
+
+        promises.get("b").complete(1);
+        assertEquals(asList("a", "b", "c"), started);
+
+        promises.get("c").complete(2);
+        promises.get("a").complete(0);
+        assertSucceedWith(2, c.future());
+        assertTrue(future.succeeded());
+    }
+
+    @Test
+    void failure() {
+        val started = new ArrayList<String>();
+        val promise = Promise.<Integer>promise();
+        val graph = AsyncGraph.create();
+        val a = graph.step("a", () -> Future.<Integer>failedFuture("a failed"));
+        val b = graph.step("b", a, x -> {
+            started.add("b");
+            return Future.succeededFuture(x);
+        });
+        val c = graph.step("c", b, x -> {
+            started.add("c");
+            return Future.succeededFuture(x);
+        });
+        val d = graph.step("d", () -> promise.future());
+
+        val future = graph.run();
+        assertFailedWith("a failed", future);
+        assertFailedWith("a failed", b.future());
+        assertFailedWith("a failed", c.future());
+        assertTrue(started.isEmpty());
+
+        promise.complete(1);
+        assertSucceedWith(1, d.future());
+    }
+
+    @Test
+    void throwing() {
+        val graph = AsyncGraph.create();
+        val a = graph.step("a", () -> Future.succeededFuture(0));
+        val b = graph.step("b", a, x -> Future.succeededFuture(1 / x));
+
+        assertFailedWith(ArithmeticException.class, graph.run());
+        assertFailedWith("/ by zero", b.future());
+    }
+
+    @Test
+    void nineDependencies() {
+        val graph = AsyncGraph.create(3);
+        val steps = new ArrayList<AsyncGraph.Step<Integer>>();
+        for (int i = 0; i < 9; i++) {
+            int value = i;
+            steps.add(graph.step("s" + i, () -> Future.succeededFuture(value)));
+        }
+        val sum = graph.step(
+                "sum", steps.get(0), steps.get(1), steps.get(2), steps.get(3), steps.get(4),
+                steps.get(5), steps.get(6), steps.get(7), steps.get(8),
+                (v0, v1, v2, v3, v4, v5, v6, v7, v8) ->
+                        Future.succeededFuture(v0 + v1 + v2 + v3 + v4 + v5 + v6 + v7 + v8)
+        );
+
+        assertTrue(graph.run().succeeded());
+        assertSucceedWith(36, sum.future());
+    }
+
+    @Test
+    void empty() {
+        assertTrue(AsyncGraph.create().run().succeeded());
+    }
+
+    @Test
+    void illegal() {
+        assertThrows(IllegalArgumentException.class, () -> AsyncGraph.create(0));
+
+        val graph = AsyncGraph.create();
+        val a = graph.step("a", () -> Future.succeededFuture(0));
+        assertThrows(IllegalArgumentException.class, () -> graph.step("a", () -> Future.succeededFuture(1)));
+
+        val other = AsyncGraph.create();
+        assertThrows(IllegalArgumentException.class, () -> other.step("b", a, Future::succeededFuture));
+
+        graph.run();
+        assertThrows(IllegalStateException.class, graph::run);
+        assertThrows(IllegalStateException.class, () -> graph.step("c", () -> Future.succeededFuture(2)));
+    }
+
+    private static Future<Integer> start(
+            String name, HashMap<String, Promise<Integer>> promises, ArrayList<String> started
+    ) {
+        started.add(name);
+        val promise = Promise.<Integer>promise();
+        promises.put(name, promise);
+        return promise.future();
+    }
+}
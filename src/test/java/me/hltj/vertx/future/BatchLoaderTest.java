@@ -0,0 +1,144 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.future;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import lombok.val;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.function.Function;
+
+import static me.hltj.vertx.SharedTestUtils.assertFailedWith;
+import static me.hltj.vertx.SharedTestUtils.assertSucceedWith;
+import static me.hltj.vertx.SharedTestUtils.onContext;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchLoaderTest {
+    private final Vertx vertx = Vertx.vertx();
+
+    @AfterEach
+    void tearDown() {
+        vertx.close();
+    }
+
+    @Test
+    void load() {
+        val batches = new ArrayList<List<Integer>>();
+        val futures = new ArrayList<Future<String>>();
+
+        onContext(vertx, () -> {
+            val loader = BatchLoader.<Integer, String>of(vertx, keys -> {
+                batches.add(keys);
+                return Future.succeededFuture(toMap(keys, i -> i == 3 ? null : "v" + i));
+            });
+
+            futures.add(loader.load(1));
+            futures.add(loader.load(2));
+            futures.add(loader.load(1));
+            futures.add(loader.load(3));
+            assertTrue(batches.isEmpty());
+            return CompositeFuture.join(new ArrayList<>(futures));
+        });
+
+        assertEquals(Collections.singletonList(Arrays.asList(1, 2, 3)), batches);
+        assertSame(futures.get(0), futures.get(2));
+        assertSucceedWith("v1", futures.get(0));
+        assertSucceedWith("v2", futures.get(1));
+        assertSucceedWith(null, futures.get(3));
+    }
+
+    @Test
+    void load_maxBatchSize() {
+        val batches = new ArrayList<List<Integer>>();
+        val futures = new ArrayList<Future<String>>();
+
+        onContext(vertx, () -> {
+            val loader = BatchLoader.<Integer, String>of(vertx, 2, keys -> {
+                batches.add(keys);
+                return Future.succeededFuture(toMap(keys, i -> "v" + i));
+            });
+
+            futures.add(loader.load(1));
+            futures.add(loader.load(2));
+            assertEquals(1, batches.size());
+            futures.add(loader.load(3));
+            return CompositeFuture.join(new ArrayList<>(futures));
+        });
+
+        assertEquals(Arrays.asList(Arrays.asList(1, 2), Collections.singletonList(3)), batches);
+        assertSucceedWith("v3", futures.get(2));
+    }
+
+    @Test
+    void load_failure() {
+        val futures = new ArrayList<Future<String>>();
+
+        onContext(vertx, () -> {
+            val loader = BatchLoader.<Integer, String>of(vertx, keys -> {
+                throw new IllegalStateException("error");
+            });
+
+            futures.add(loader.load(1));
+            futures.add(loader.load(2));
+            return CompositeFuture.join(new ArrayList<>(futures));
+        });
+
+        assertFailedWith("error", futures.get(0));
+        assertFailedWith("error", futures.get(1));
+    }
+
+    @Test
+    void dispatch() {
+        val batches = new ArrayList<List<Integer>>();
+
+        onContext(vertx, () -> {
+            val loader = BatchLoader.<Integer, String>of(vertx, keys -> {
+                batches.add(keys);
+                return Future.succeededFuture(toMap(keys, i -> "v" + i));
+            });
+
+            Future<String> future = loader.load(1);
+            loader.dispatch();
+            assertSucceedWith("v1", future);
+            loader.dispatch();
+            return future;
+        });
+
+        assertEquals(Collections.singletonList(Collections.singletonList(1)), batches);
+    }
+
+    @Test
+    void of_illegalMaxBatchSize() {
+        assertThrows(IllegalArgumentException.class, () -> BatchLoader.of(vertx, 0, keys -> null));
+    }
+
+    private static <K, V> Map<K, V> toMap(List<K> keys, Function<K, V> function) {
+        val map = new HashMap<K, V>();
+        keys.forEach(key -> map.put(key, function.apply(key)));
+        return map;
+    }
+}
@@ -22,15 +22,20 @@
  */
 package me.hltj.vertx.future;
 
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
 import lombok.val;
 import me.hltj.vertx.SharedTestUtils;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 
+import static java.util.Arrays.asList;
 import static me.hltj.vertx.FutureUtils.*;
+import static me.hltj.vertx.SharedTestUtils.assertFailedWith;
+import static me.hltj.vertx.SharedTestUtils.onContext;
 import static org.junit.jupiter.api.Assertions.*;
 
 class CompositeFutureTuple2Test {
@@ -260,4 +265,188 @@ class CompositeFutureTuple2Test {
         SharedTestUtils.assertFailedWith(NullPointerException.class, sumFutureC);
         SharedTestUtils.assertFailedWith(NullPointerException.class, sumFutureD);
     }
-}
\ No newline at end of file
+
+    @Test
+    void timeSlots() {
+        Promise<Integer> promise0 = Promise.promise();
+        val composite = join(promise0.future(), Future.succeededFuture(1)).timeSlots("tuple2");
+
+        assertEquals(-1, composite.slotLatencyNanos(0));
+        assertTrue(composite.slotLatencyNanos(1) >= 0);
+        assertEquals(-1, composite.criticalSlot());
+
+        promise0.complete(0);
+        assertTrue(composite.slotLatencyNanos(0) >= composite.slotLatencyNanos(1));
+        assertEquals(0, composite.criticalSlot());
+    }
+
+    @Test
+    void timeSlots_outOfRange() {
+        val composite = join(Future.succeededFuture(0), Future.succeededFuture(1)).timeSlots("tuple2");
+        assertThrows(IllegalArgumentException.class, () -> composite.slotLatencyNanos(-1));
+        assertThrows(IllegalArgumentException.class, () -> composite.slotLatencyNanos(2));
+        assertEquals(1, composite.criticalSlot());
+    }
+
+    @Test
+    void timeSlots_notTurnedOn() {
+        val composite = join(Future.succeededFuture(0), Future.succeededFuture(1));
+        assertThrows(IllegalStateException.class, () -> composite.slotLatencyNanos(0));
+        assertThrows(IllegalStateException.class, composite::criticalSlot);
+    }
+
+    @Test
+    void applift_worker() {
+        val vertx = Vertx.vertx();
+        val executor = vertx.createSharedWorkerExecutor("tuple2-worker");
+        val threads = new ArrayList<String>();
+        val sameContext = new ArrayList<Boolean>();
+        try {
+            onContext(vertx, () -> {
+                val context = Vertx.currentContext();
+                val composite = join(Future.succeededFuture(0), Future.succeededFuture(1));
+
+                Future<Integer> sumFutureA = composite.applift(executor, (i0, i1) -> {
+                    threads.add(Thread.currentThread().getName());
+                    return i0 + i1;
+                });
+                Future<Integer> sumFutureB = composite.mapTyped(executor, (i0, i1) -> i0 + i1);
+
+                return CompositeFuture.all(sumFutureA, sumFutureB).map(x -> {
+                    sameContext.add(context == Vertx.currentContext());
+                    SharedTestUtils.assertSucceedWith(1, sumFutureA);
+                    SharedTestUtils.assertSucceedWith(1, sumFutureB);
+                    return x;
+                });
+            });
+        } finally {
+            executor.close();
+            vertx.close();
+        }
+
+        assertEquals(1, threads.size());
+        assertTrue(threads.get(0).startsWith("tuple2-worker"));
+        assertEquals(asList(true), sameContext);
+    }
+
+    @Test
+    void applift_worker_offContext() {
+        val vertx = Vertx.vertx();
+        val executor = vertx.createSharedWorkerExecutor("tuple2-worker");
+        val sameContext = new ArrayList<Boolean>();
+        try {
+            onContext(vertx, () -> {
+                val context = Vertx.currentContext();
+                val promise = Promise.<Integer>promise();
+                Future<Integer> sumFuture = join(promise.future(), Future.succeededFuture(1))
+                        .applift(executor, (i0, i1) -> i0 + i1);
+
+                new Thread(() -> promise.complete(2)).start();
+                return sumFuture.map(sum -> {
+                    sameContext.add(context == Vertx.currentContext());
+                    return sum;
+                });
+            });
+        } finally {
+            executor.close();
+            vertx.close();
+        }
+
+        assertEquals(asList(true), sameContext);
+    }
+
+    @Test
+    void applift_worker_throws() {
+        val vertx = Vertx.vertx();
+        val executor = vertx.createSharedWorkerExecutor("tuple2-worker");
+        val futures = new ArrayList<Future<Integer>>();
+        try {
+            onContext(vertx, () -> {
+                val composite = join(Future.succeededFuture(1), Future.succeededFuture(0));
+                futures.add(composite.applift(executor, (i0, i1) -> i0 / i1));
+                return futures.get(0).otherwiseEmpty();
+            });
+        } finally {
+            executor.close();
+            vertx.close();
+        }
+
+        assertFailedWith(ArithmeticException.class, futures.get(0));
+    }
+
+    @Test
+    void firstSucceeded() {
+        val promises = new ArrayList<Promise<Integer>>();
+        for (int i = 0; i < 2; i++) {
+            promises.add(Promise.promise());
+        }
+        Future<Winner<Integer>> winner = any(
+                promises.get(0).future(), promises.get(1).future()
+        ).firstSucceeded();
+
+        promises.get(0).fail("0");
+        assertFalse(winner.isComplete());
+        promises.get(1).complete(20);
+        SharedTestUtils.assertSucceedWith(new Winner<>(1, 20), winner);
+    }
+
+    @Test
+    void firstSucceeded_failed() {
+        val promise0 = Promise.<Integer>promise();
+        val promise1 = Promise.<String>promise();
+        Future<Winner<Object>> winner = any(promise0.future(), promise1.future()).firstSucceeded();
+
+        promise1.fail("1");
+        assertFalse(winner.isComplete());
+        promise0.fail("0");
+        assertFailedWith("0", winner);
+    }
+
+    @Test
+    void firstSucceeded_recordedOnce() {
+        val promise0 = Promise.<Integer>promise();
+        val promise1 = Promise.<Integer>promise();
+        val composite = any(promise0.future(), promise1.future());
+        Future<Winner<Integer>> winner = composite.firstSucceeded();
+
+        promise1.complete(1);
+        promise0.complete(0);
+        SharedTestUtils.assertSucceedWith(new Winner<>(1, 1), winner);
+        assertSame(winner, composite.firstSucceeded());
+    }
+
+    @Test
+    void firstSucceeded_completed() {
+        val composite = join(Future.succeededFuture(0), Future.succeededFuture("1"));
+        SharedTestUtils.assertSucceedWith(new Winner<>(0, 0), composite.firstSucceeded());
+    }
+
+    @Test
+    void onSlot() {
+        val promises = new ArrayList<Promise<Integer>>();
+        for (int i = 0; i < 2; i++) {
+            promises.add(Promise.promise());
+        }
+        val composite = all(
+                promises.get(0).future(), promises.get(1).future()
+        );
+        val completed = new ArrayList<String>();
+        composite.on0(ar -> completed.add("0:" + ar.result()))
+                .on1(ar -> completed.add("1:" + ar.cause().getMessage()))
+                .<Integer>onSlot(0, ar -> completed.add("slot0:" + ar.result()));
+
+        promises.get(0).complete(0);
+        assertEquals(asList("0:0", "slot0:0"), completed);
+        assertFalse(composite.raw().isComplete());
+
+        promises.get(1).fail("failed");
+        assertEquals(asList("0:0", "slot0:0", "1:failed"), completed);
+    }
+
+    @Test
+    void onSlot_outOfRange() {
+        val composite = all(Future.succeededFuture(0), Future.succeededFuture(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> composite.onSlot(2, _ar -> fail("unexpected")));
+        assertThrows(IndexOutOfBoundsException.class, () -> composite.onSlot(-1, _ar -> fail("unexpected")));
+    }
+}
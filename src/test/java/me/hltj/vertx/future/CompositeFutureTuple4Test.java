@@ -22,16 +22,20 @@
  */
 package me.hltj.vertx.future;
 
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
 import lombok.val;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 
+import static java.util.Arrays.asList;
 import static me.hltj.vertx.FutureUtils.*;
 import static me.hltj.vertx.SharedTestUtils.assertFailedWith;
 import static me.hltj.vertx.SharedTestUtils.assertSucceedWith;
+import static me.hltj.vertx.SharedTestUtils.onContext;
 import static org.junit.jupiter.api.Assertions.*;
 
 class CompositeFutureTuple4Test {
@@ -328,4 +332,96 @@ class CompositeFutureTuple4Test {
         assertFailedWith(NullPointerException.class, sumFutureC);
         assertFailedWith(NullPointerException.class, sumFutureD);
     }
-}
\ No newline at end of file
+
+    @Test
+    void timeSlots() {
+        Promise<Integer> promise0 = Promise.promise();
+        val composite = join(
+                promise0.future(), Future.succeededFuture(1), Future.succeededFuture(2), Future.succeededFuture(3)
+        ).timeSlots("tuple4");
+
+        assertEquals(-1, composite.slotLatencyNanos(0));
+        assertTrue(composite.slotLatencyNanos(1) >= 0);
+        assertEquals(-1, composite.criticalSlot());
+
+        promise0.complete(0);
+        assertTrue(composite.slotLatencyNanos(0) >= composite.slotLatencyNanos(3));
+        assertEquals(0, composite.criticalSlot());
+    }
+
+    @Test
+    void applift_worker() {
+        val vertx = Vertx.vertx();
+        val executor = vertx.createSharedWorkerExecutor("tuple4-worker");
+        val threads = new ArrayList<String>();
+        val sameContext = new ArrayList<Boolean>();
+        try {
+            onContext(vertx, () -> {
+                val context = Vertx.currentContext();
+                val composite = join(
+                        Future.succeededFuture(0), Future.succeededFuture(1), Future.succeededFuture(2),
+                        Future.succeededFuture(3)
+                );
+
+                Future<Integer> sumFutureA = composite.applift(executor, (i0, i1, i2, i3) -> {
+                    threads.add(Thread.currentThread().getName());
+                    return i0 + i1 + i2 + i3;
+                });
+                Future<Integer> sumFutureB = composite.mapTyped(executor, (i0, i1, i2, i3) -> i0 + i1 + i2 + i3);
+
+                return CompositeFuture.all(sumFutureA, sumFutureB).map(x -> {
+                    sameContext.add(context == Vertx.currentContext());
+                    assertSucceedWith(6, sumFutureA);
+                    assertSucceedWith(6, sumFutureB);
+                    return x;
+                });
+            });
+        } finally {
+            executor.close();
+            vertx.close();
+        }
+
+        assertEquals(1, threads.size());
+        assertTrue(threads.get(0).startsWith("tuple4-worker"));
+        assertEquals(asList(true), sameContext);
+    }
+
+    @Test
+    void firstSucceeded() {
+        val promises = new ArrayList<Promise<Integer>>();
+        for (int i = 0; i < 4; i++) {
+            promises.add(Promise.promise());
+        }
+        Future<Winner<Integer>> winner = any(
+                promises.get(0).future(), promises.get(1).future(), promises.get(2).future(), promises.get(3).future()
+        ).firstSucceeded();
+
+        promises.get(0).fail("0");
+        assertFalse(winner.isComplete());
+        promises.get(3).complete(40);
+        promises.get(1).complete(1);
+        assertSucceedWith(new Winner<>(3, 40), winner);
+    }
+
+    @Test
+    void onSlot() {
+        val promises = new ArrayList<Promise<Integer>>();
+        for (int i = 0; i < 4; i++) {
+            promises.add(Promise.promise());
+        }
+        val composite = all(
+                promises.get(0).future(), promises.get(1).future(), promises.get(2).future(), promises.get(3).future()
+        );
+        val completed = new ArrayList<String>();
+        composite.on0(ar -> completed.add("0:" + ar.result()))
+                .on3(ar -> completed.add("3:" + ar.cause().getMessage()))
+                .<Integer>onSlot(0, ar -> completed.add("slot0:" + ar.result()));
+
+        promises.get(0).complete(0);
+        assertEquals(asList("0:0", "slot0:0"), completed);
+        assertFalse(composite.raw().isComplete());
+
+        promises.get(3).fail("failed");
+        assertEquals(asList("0:0", "slot0:0", "3:failed"), completed);
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.future;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import lombok.val;
+import me.hltj.vertx.FutureUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static java.util.Arrays.asList;
+import static me.hltj.vertx.SharedTestUtils.assertSucceedWith;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContextPropagationTest {
+    private static final ThreadLocal<Object> SPAN = new ThreadLocal<>();
+
+    private int captured = 0;
+
+    private final ContextPropagator propagator = new ContextPropagator() {
+        @Override
+        public Object capture() {
+            captured++;
+            return SPAN.get();
+        }
+
+        @Override
+        public Object attach(Object context) {
+            Object previous = SPAN.get();
+            SPAN.set(context);
+            return previous;
+        }
+
+        @Override
+        public void detach(Object previous) {
+            SPAN.set(previous);
+        }
+    };
+
+    @BeforeEach
+    void setUp() {
+        SPAN.remove();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ContextPropagation.uninstall();
+        SPAN.remove();
+    }
+
+    @Test
+    void notInstalled() {
+        Function<Integer, Integer> function = x -> x;
+        Supplier<Integer> supplier = () -> 1;
+        Handler<Integer> handler = x -> {};
+        Future<Integer> future = Promise.<Integer>promise().future();
+
+        assertSame(function, ContextPropagation.wrapFunction(function));
+        assertSame(supplier, ContextPropagation.wrapSupplier(supplier));
+        assertSame(handler, ContextPropagation.wrapHandler(handler));
+        assertSame(future, ContextPropagation.propagate(future));
+        assertEquals(0, captured);
+    }
+
+    @Test
+    void applift() {
+        ContextPropagation.install(propagator);
+        Promise<Integer> promise = Promise.promise();
+
+        SPAN.set("span-1");
+        val future = FutureTuple2.of(promise.future(), Future.succeededFuture("a")).join()
+                .applift((i, s) -> s + i + SPAN.get());
+        SPAN.remove();
+
+        promise.complete(1);
+        assertSucceedWith("a1span-1", future);
+        assertNull(SPAN.get());
+    }
+
+    @Test
+    void joinThrough() {
+        ContextPropagation.install(propagator);
+        Promise<Integer> promise = Promise.promise();
+
+        SPAN.set("span-2");
+        val future = FutureTuple2.of(promise.future(), Future.succeededFuture("a")).join()
+                .joinThrough((f0, f1) -> Future.succeededFuture(SPAN.get()));
+        SPAN.set("other");
+
+        promise.fail(new IllegalStateException("error"));
+        assertSucceedWith("span-2", future);
+        assertEquals("other", SPAN.get());
+    }
+
+    @Test
+    void futurize() {
+        ContextPropagation.install(propagator);
+        val handler = new AtomicReference<Handler<AsyncResult<Integer>>>();
+        val spans = new ArrayList<Object>();
+
+        SPAN.set("span-3");
+        FutureUtils.futurize(handler::set).onComplete(ar -> spans.add(SPAN.get()));
+        SPAN.remove();
+
+        handler.get().handle(Future.succeededFuture(1));
+        assertEquals(asList("span-3"), spans);
+        assertNull(SPAN.get());
+    }
+
+    @Test
+    void joinWrap() {
+        ContextPropagation.install(propagator);
+        Promise<Integer> promise = Promise.promise();
+        val spans = new ArrayList<Object>();
+
+        SPAN.set("span-4");
+        val future = FutureUtils.joinWrap(promise::future);
+        future.onComplete(ar -> spans.add(SPAN.get()));
+        SPAN.remove();
+
+        promise.complete(1);
+        assertSucceedWith(1, future);
+        assertEquals(asList("span-4"), spans);
+    }
+
+    @Test
+    void propagate_completed() {
+        ContextPropagation.install(propagator);
+        val future = Future.succeededFuture(1);
+
+        assertSame(future, ContextPropagation.propagate(future));
+    }
+
+    @Test
+    void install_null() {
+        assertThrows(NullPointerException.class, () -> ContextPropagation.install(null));
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.future;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static me.hltj.vertx.SharedTestUtils.assertFailedWith;
+import static me.hltj.vertx.SharedTestUtils.assertSucceedWith;
+import static org.junit.jupiter.api.Assertions.*;
+
+class FutureCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void get() {
+        val cache = FutureCache.<String, String>of(10);
+        val count = new AtomicInteger();
+        Promise<String> promise = Promise.promise();
+
+        Future<String> future0 = cache.get("a", key -> {
+            count.incrementAndGet();
+            return promise.future();
+        });
+        Future<String> future1 = cache.get("a", key -> {
+            count.incrementAndGet();
+            return Future.succeededFuture("other");
+        });
+
+        assertSame(future0, future1);
+        assertEquals(1, count.get());
+
+        promise.complete("va");
+        assertSucceedWith("va", cache.getIfPresent("a"));
+        assertNull(cache.getIfPresent("b"));
+    }
+
+    @Test
+    void get_failure() {
+        val cache = FutureCache.<String, String>of(10);
+
+        assertFailedWith("error", cache.get("a", key -> Future.failedFuture("error")));
+        assertFailedWith(IllegalStateException.class, cache.get("b", key -> {
+            throw new IllegalStateException("error");
+        }));
+        assertNull(cache.getIfPresent("a"));
+        assertNull(cache.getIfPresent("b"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void evict() {
+        val cache = FutureCache.<String, String>of(2);
+        cache.put("a", "va");
+        cache.put("b", "vb");
+        cache.getIfPresent("a");
+        cache.put("c", "vc");
+
+        assertEquals(2, cache.size());
+        assertSucceedWith("va", cache.getIfPresent("a"));
+        assertNull(cache.getIfPresent("b"));
+
+        cache.invalidate("a");
+        assertNull(cache.getIfPresent("a"));
+        assertEquals(1, cache.size());
+    }
+
+    @SneakyThrows
+    @Test
+    void snapshot() {
+        val cache = FutureCache.<String, String>of(10);
+        cache.put("a", "va");
+        cache.put("b", "vb");
+        cache.get("pending", key -> Promise.<String>promise().future());
+        cache.get("failed", key -> Future.failedFuture("error"));
+
+        Path path = tempDir.resolve("cache.snapshot");
+        cache.writeSnapshot(path, new CountingCodec());
+
+        val codec = new CountingCodec();
+        val restored = FutureCache.<String, String>of(10);
+        restored.put("b", "vb2");
+        restored.loadSnapshot(path, codec);
+
+        assertEquals(2, restored.size());
+        assertEquals(0, codec.decodedValues.get());
+        assertSucceedWith("va", restored.getIfPresent("a"));
+        assertSucceedWith("va", restored.get("a", key -> Future.succeededFuture("other")));
+        assertEquals(1, codec.decodedValues.get());
+        assertSucceedWith("vb2", restored.getIfPresent("b"));
+        assertNull(restored.getIfPresent("pending"));
+    }
+
+    @SneakyThrows
+    @Test
+    void snapshot_copyUndecoded() {
+        Path path0 = tempDir.resolve("cache0.snapshot");
+        Path path1 = tempDir.resolve("cache1.snapshot");
+
+        val cache = FutureCache.<String, String>of(10);
+        cache.put("a", "va");
+        cache.writeSnapshot(path0, new CountingCodec());
+
+        val codec = new CountingCodec();
+        val restored = FutureCache.<String, String>of(10);
+        restored.loadSnapshot(path0, codec);
+        restored.put("b", "vb");
+        restored.writeSnapshot(path1, codec);
+        assertEquals(0, codec.decodedValues.get());
+
+        val restoredAgain = FutureCache.<String, String>of(10);
+        restoredAgain.loadSnapshot(path1, new CountingCodec());
+        assertSucceedWith("va", restoredAgain.getIfPresent("a"));
+        assertSucceedWith("vb", restoredAgain.getIfPresent("b"));
+    }
+
+    @SneakyThrows
+    @Test
+    void snapshot_maxSize() {
+        val cache = FutureCache.<String, String>of(10);
+        for (String key : new String[]{"a", "b", "c", "d", "e"}) {
+            cache.put(key, "v" + key);
+        }
+        Path path = tempDir.resolve("large.snapshot");
+        cache.writeSnapshot(path, new CountingCodec());
+
+        val restored = FutureCache.<String, String>of(3);
+        restored.put("x", "vx");
+        restored.loadSnapshot(path, new CountingCodec());
+        assertEquals(3, restored.size());
+        assertNull(restored.getIfPresent("c"));
+        assertSucceedWith("vx", restored.getIfPresent("x"));
+
+        restored.put("y", "vy");
+        assertEquals(3, restored.size());
+        assertNull(restored.getIfPresent("d"));
+        assertSucceedWith("ve", restored.getIfPresent("e"));
+    }
+
+    @Test
+    void get_loaderOutsideLock() {
+        val cache = FutureCache.<String, String>of(10);
+        val holdsLock = new AtomicInteger();
+        Future<String> future = cache.get("a", key -> {
+            if (Thread.holdsLock(cache)) {
+                holdsLock.incrementAndGet();
+            }
+            return Future.succeededFuture("va");
+        });
+
+        assertEquals(0, holdsLock.get());
+        assertSucceedWith("va", future);
+        assertSame(future, cache.getIfPresent("a"));
+    }
+
+    @SneakyThrows
+    @Test
+    void loadSnapshot_outsideLock() {
+        Path path = tempDir.resolve("cache.snapshot");
+        FutureCache<String, String> cache = FutureCache.of(10);
+        cache.put("a", "va");
+        cache.writeSnapshot(path, new CountingCodec());
+
+        FutureCache<String, String> restored = FutureCache.of(10);
+        AtomicInteger holdsLock = new AtomicInteger();
+        restored.loadSnapshot(path, new CountingCodec() {
+            @Override
+            public String decodeKey(ByteBuffer buffer) {
+                if (Thread.holdsLock(restored)) {
+                    holdsLock.incrementAndGet();
+                }
+                return super.decodeKey(buffer);
+            }
+        });
+        assertEquals(0, holdsLock.get());
+
+        // the loaded file is not held, so it can be replaced
+        restored.put("b", "vb");
+        restored.writeSnapshot(path, new CountingCodec());
+        FutureCache<String, String> restoredAgain = FutureCache.of(10);
+        restoredAgain.loadSnapshot(path, new CountingCodec());
+        assertSucceedWith("va", restoredAgain.getIfPresent("a"));
+        assertSucceedWith("vb", restoredAgain.getIfPresent("b"));
+    }
+
+    @SneakyThrows
+    @Test
+    void loadSnapshot_invalid() {
+        Path path = tempDir.resolve("invalid.snapshot");
+        Files.write(path, "invalid".getBytes(StandardCharsets.UTF_8));
+
+        val cache = FutureCache.<String, String>of(10);
+        assertThrows(IOException.class, () -> cache.loadSnapshot(path, new CountingCodec()));
+    }
+
+    @Test
+    void of_illegalMaxSize() {
+        assertThrows(IllegalArgumentException.class, () -> FutureCache.of(0));
+    }
+
+    private static class CountingCodec implements SnapshotCodec<String, String> {
+        private final AtomicInteger decodedValues = new AtomicInteger();
+
+        @Override
+        public byte[] encodeKey(String key) {
+            return key.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String decodeKey(ByteBuffer buffer) {
+            return StandardCharsets.UTF_8.decode(buffer).toString();
+        }
+
+        @Override
+        public byte[] encodeValue(String value) {
+            return value.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String decodeValue(ByteBuffer buffer) {
+            decodedValues.incrementAndGet();
+            return StandardCharsets.UTF_8.decode(buffer).toString();
+        }
+    }
+}
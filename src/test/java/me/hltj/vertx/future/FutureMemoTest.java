@@ -0,0 +1,88 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.future;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static me.hltj.vertx.SharedTestUtils.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class FutureMemoTest {
+    @Test
+    void joinWrap() {
+        val memo = FutureMemo.create();
+        val count = new AtomicInteger();
+        Promise<String> promise = Promise.promise();
+
+        Future<String> future0 = memo.joinWrap("user", () -> {
+            count.incrementAndGet();
+            return promise.future();
+        });
+        Future<String> future1 = memo.flatWrap("user", () -> {
+            count.incrementAndGet();
+            return Future.succeededFuture("other");
+        });
+        Future<String> future2 = memo.joinWrap("tenant", () -> Future.succeededFuture("tenant"));
+
+        assertSame(future0, future1);
+        assertEquals(1, count.get());
+        assertEquals(2, memo.size());
+        assertSucceedWith("tenant", future2);
+
+        promise.complete("user");
+        assertSucceedWith("user", future1);
+
+        memo.clear();
+        assertEquals(0, memo.size());
+        assertSucceedWith("other", memo.joinWrap("user", () -> Future.succeededFuture("other")));
+    }
+
+    @Test
+    void joinWrap_exception() {
+        val memo = FutureMemo.create();
+        Future<String> future0 = memo.joinWrap("user", () -> {
+            throw new IllegalStateException("error");
+        });
+        Future<String> future1 = memo.joinWrap("user", () -> Future.succeededFuture("user"));
+
+        assertSame(future0, future1);
+        assertFailedWith("error", future1);
+    }
+
+    @Test
+    void create_perRequest() {
+        val memo0 = FutureMemo.create();
+        val memo1 = FutureMemo.create();
+        Future<String> future0 = memo0.joinWrap("user", () -> Future.succeededFuture("user0"));
+        Future<String> future1 = memo1.joinWrap("user", () -> Future.succeededFuture("user1"));
+
+        assertSucceedWith("user0", future0);
+        assertSucceedWith("user1", future1);
+        assertSame(future0, memo0.joinWrap("user", () -> Future.succeededFuture("other")));
+    }
+}
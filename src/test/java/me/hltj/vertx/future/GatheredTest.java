@@ -0,0 +1,111 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.future;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import lombok.SneakyThrows;
+import lombok.val;
+import me.hltj.vertx.FutureUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GatheredTest {
+
+    @Test
+    void allCompleted() {
+        val vertx = Vertx.vertx();
+        val promise = Promise.<String>promise();
+        val future = FutureUtils.gatherUntil(
+                vertx, asList(Future.succeededFuture("a"), Future.failedFuture("b"), promise.future()), 60_000
+        );
+        assertFalse(future.isComplete());
+
+        promise.complete("c");
+        assertTrue(future.succeeded());
+        val gathered = future.result();
+        assertTrue(gathered.isComplete());
+        assertEquals(2, gathered.size());
+        assertArrayEquals(new int[]{0, 2}, gathered.indices());
+        assertEquals(asList("a", "c"), gathered.values());
+        assertEquals(2, gathered.index(1));
+        assertEquals("c", gathered.value(1));
+        assertArrayEquals(new int[]{1}, gathered.failedIndices());
+        assertArrayEquals(new int[0], gathered.pendingIndices());
+        vertx.close();
+    }
+
+    @SneakyThrows
+    @Test
+    void deadline() {
+        val vertx = Vertx.vertx();
+        val pending = Promise.<Integer>promise();
+        val cancelled = Collections.synchronizedList(new ArrayList<Integer>());
+        val latch = new CountDownLatch(1);
+        val future = FutureUtils.gatherUntil(vertx, asList(
+                Future.succeededFuture(0), pending.future(), Future.failedFuture("2"),
+                Promise.<Integer>promise().future()
+        ), 50, cancelled::add);
+        future.onComplete(_ar -> latch.countDown());
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        val gathered = future.result();
+        assertFalse(gathered.isComplete());
+        assertEquals(asList(0), gathered.values());
+        assertArrayEquals(new int[]{2}, gathered.failedIndices());
+        assertArrayEquals(new int[]{1, 3}, gathered.pendingIndices());
+        assertEquals(asList(1, 3), cancelled);
+
+        pending.complete(1);
+        assertEquals(asList(0), future.result().values());
+        vertx.close();
+    }
+
+    @Test
+    void empty() {
+        val vertx = Vertx.vertx();
+        val future = FutureUtils.gatherUntil(vertx, new ArrayList<Future<Integer>>(), 100);
+        assertTrue(future.succeeded());
+        assertTrue(future.result().isComplete());
+        assertEquals(0, future.result().size());
+        vertx.close();
+    }
+
+    @Test
+    void illegalDeadline() {
+        val vertx = Vertx.vertx();
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> FutureUtils.gatherUntil(vertx, asList(Future.succeededFuture(0)), 0)
+        );
+        vertx.close();
+    }
+}
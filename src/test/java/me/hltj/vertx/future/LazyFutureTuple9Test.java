@@ -0,0 +1,157 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.future;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static me.hltj.vertx.SharedTestUtils.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class LazyFutureTuple9Test {
+
+    @Test
+    void all() {
+        val calls = new ArrayList<Integer>();
+        val lazy = FutureTuple9.lazy(
+                supplier(calls, 0, Future.succeededFuture(0)),
+                supplier(calls, 1, Future.succeededFuture(1)),
+                supplier(calls, 2, Future.succeededFuture(2)),
+                supplier(calls, 3, Future.succeededFuture(3)),
+                supplier(calls, 4, Future.succeededFuture(4)),
+                supplier(calls, 5, Future.succeededFuture(5)),
+                supplier(calls, 6, Future.succeededFuture(6)),
+                supplier(calls, 7, Future.succeededFuture(7)),
+                supplier(calls, 8, Future.succeededFuture(8))
+        );
+        assertTrue(calls.isEmpty());
+
+        val composite = lazy.all();
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8), calls);
+        assertTrue(composite.raw().succeeded());
+        assertSucceedWith(8, composite.tuple().get_8());
+    }
+
+    @Test
+    void join() {
+        val calls = new ArrayList<Integer>();
+        val lazy = FutureTuple9.lazy(
+                supplier(calls, 0, Future.succeededFuture(0)),
+                supplier(calls, 1, Future.succeededFuture(1)),
+                supplier(calls, 2, Future.succeededFuture(2)),
+                supplier(calls, 3, Future.succeededFuture(3)),
+                supplier(calls, 4, Future.succeededFuture(4)),
+                supplier(calls, 5, Future.succeededFuture(5)),
+                supplier(calls, 6, Future.succeededFuture(6)),
+                supplier(calls, 7, Future.succeededFuture(7)),
+                () -> {
+                    calls.add(8);
+                    throw new IllegalStateException("error8");
+                }
+        );
+        assertTrue(calls.isEmpty());
+
+        val composite = lazy.join();
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8), calls);
+        assertFailedWith("error8", composite.raw());
+        assertSucceedWith(0, composite.tuple().get_0());
+        assertFailedWith(IllegalStateException.class, composite.tuple().get_8());
+    }
+
+    @Test
+    void any() {
+        val calls = new ArrayList<Integer>();
+        val composite = FutureTuple9.lazy(
+                supplier(calls, 0, Future.<Integer>failedFuture("error0")),
+                supplier(calls, 1, Future.succeededFuture(1)),
+                supplier(calls, 2, Future.succeededFuture(2)),
+                supplier(calls, 3, Future.succeededFuture(3)),
+                supplier(calls, 4, Future.succeededFuture(4)),
+                supplier(calls, 5, Future.succeededFuture(5)),
+                supplier(calls, 6, Future.succeededFuture(6)),
+                supplier(calls, 7, Future.succeededFuture(7)),
+                supplier(calls, 8, Future.succeededFuture(8))
+        ).any();
+
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8), calls);
+        assertTrue(composite.raw().succeeded());
+    }
+
+    @Test
+    void anySequential() {
+        val calls = new ArrayList<Integer>();
+        val composite = FutureTuple9.lazy(
+                supplier(calls, 0, Future.<Integer>failedFuture("error0")),
+                supplier(calls, 1, Future.succeededFuture(1)),
+                supplier(calls, 2, Future.succeededFuture(2)),
+                supplier(calls, 3, Future.succeededFuture(3)),
+                supplier(calls, 4, Future.succeededFuture(4)),
+                supplier(calls, 5, Future.succeededFuture(5)),
+                supplier(calls, 6, Future.succeededFuture(6)),
+                supplier(calls, 7, Future.succeededFuture(7)),
+                supplier(calls, 8, Future.succeededFuture(8))
+        ).anySequential();
+
+        assertEquals(Arrays.asList(0, 1), calls);
+        assertTrue(composite.raw().succeeded());
+        assertFailedWith("error0", composite.tuple().get_0());
+        assertSucceedWith(1, composite.tuple().get_1());
+        assertFalse(composite.tuple().get_2().isComplete());
+    }
+
+    @Test
+    void anySequential_allFailed() {
+        val calls = new ArrayList<Integer>();
+        val composite = FutureTuple9.lazy(
+                supplier(calls, 0, Future.<Integer>failedFuture("error0")),
+                supplier(calls, 1, Future.<Integer>failedFuture("error1")),
+                supplier(calls, 2, Future.<Integer>failedFuture("error2")),
+                supplier(calls, 3, Future.<Integer>failedFuture("error3")),
+                supplier(calls, 4, Future.<Integer>failedFuture("error4")),
+                supplier(calls, 5, Future.<Integer>failedFuture("error5")),
+                supplier(calls, 6, Future.<Integer>failedFuture("error6")),
+                supplier(calls, 7, Future.<Integer>failedFuture("error7")),
+                () -> {
+                    calls.add(8);
+                    throw new IllegalStateException("error8");
+                }
+        ).anySequential();
+
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8), calls);
+        assertTrue(composite.raw().failed());
+    }
+
+    private static <T> Supplier<Future<T>> supplier(List<Integer> calls, int index, Future<T> future) {
+        return () -> {
+            calls.add(index);
+            return future;
+        };
+    }
+}
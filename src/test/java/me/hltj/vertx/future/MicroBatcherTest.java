@@ -0,0 +1,189 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.future;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import lombok.val;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static me.hltj.vertx.SharedTestUtils.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MicroBatcherTest {
+    private final Vertx vertx = Vertx.vertx();
+
+    @AfterEach
+    void tearDown() {
+        vertx.close();
+    }
+
+    @Test
+    void submit_bySize() {
+        val batches = new ArrayList<List<Integer>>();
+        val futures = new ArrayList<Future<String>>();
+
+        onContext(vertx, () -> {
+            val batcher = MicroBatcher.<Integer, String>of(vertx, 2, 60_000, items -> {
+                batches.add(new ArrayList<>(items));
+                return Future.succeededFuture(items.stream().map(i -> "r" + i).collect(Collectors.toList()));
+            });
+
+            for (int i = 0; i < 4; i++) {
+                futures.add(batcher.submit(i));
+            }
+            assertEquals(0, batcher.pending());
+            return CompositeFuture.all(new ArrayList<>(futures));
+        });
+
+        assertEquals(Arrays.asList(Arrays.asList(0, 1), Arrays.asList(2, 3)), batches);
+        for (int i = 0; i < 4; i++) {
+            assertSucceedWith("r" + i, futures.get(i));
+        }
+    }
+
+    @Test
+    void submit_byTime() {
+        val batches = new ArrayList<List<Integer>>();
+        val futures = new ArrayList<Future<String>>();
+
+        onContext(vertx, () -> {
+            val batcher = MicroBatcher.<Integer, String>of(vertx, 100, 10, items -> {
+                batches.add(new ArrayList<>(items));
+                return Future.succeededFuture(items.stream().map(i -> "r" + i).collect(Collectors.toList()));
+            });
+
+            futures.add(batcher.submit(0));
+            futures.add(batcher.submit(1));
+            futures.add(batcher.submit(2));
+            assertEquals(3, batcher.pending());
+            assertTrue(batches.isEmpty());
+            return CompositeFuture.all(new ArrayList<>(futures));
+        });
+
+        assertEquals(Collections.singletonList(Arrays.asList(0, 1, 2)), batches);
+        assertSucceedWith("r2", futures.get(2));
+    }
+
+    @Test
+    void submit_failure() {
+        val futures = new ArrayList<Future<String>>();
+
+        onContext(vertx, () -> {
+            val batcher = MicroBatcher.<Integer, String>of(vertx, 3, 10, items -> Future.failedFuture("error"));
+            futures.add(batcher.submit(0));
+            futures.add(batcher.submit(1));
+            return CompositeFuture.join(new ArrayList<>(futures));
+        });
+
+        assertFailedWith("error", futures.get(0));
+        assertFailedWith("error", futures.get(1));
+    }
+
+    @Test
+    void submit_missingResults() {
+        val futures = new ArrayList<Future<String>>();
+
+        onContext(vertx, () -> {
+            val batcher = MicroBatcher.<Integer, String>of(vertx, 2, 10, items ->
+                    Future.succeededFuture(Collections.singletonList("r0"))
+            );
+            futures.add(batcher.submit(0));
+            futures.add(batcher.submit(1));
+            return CompositeFuture.join(new ArrayList<>(futures));
+        });
+
+        assertSucceedWith("r0", futures.get(0));
+        assertFailedWith(MissingResultException.class, futures.get(1));
+    }
+
+    @Test
+    void flush() {
+        val batches = new ArrayList<List<Integer>>();
+
+        onContext(vertx, () -> {
+            val batcher = MicroBatcher.<Integer, Integer>of(vertx, 3, 60_000, items -> {
+                batches.add(new ArrayList<>(items));
+                return Future.succeededFuture(items);
+            });
+
+            Future<Integer> future0 = batcher.submit(0);
+            batcher.flush();
+            Future<Integer> future1 = batcher.submit(1);
+            batcher.flush();
+            batcher.flush();
+            assertSucceedWith(0, future0);
+            return future1;
+        });
+
+        assertEquals(Arrays.asList(Collections.singletonList(0), Collections.singletonList(1)), batches);
+    }
+
+    @Test
+    void submit_reusedBatch() {
+        val batches = new ArrayList<List<Integer>>();
+        val results = new ArrayList<Promise<List<Integer>>>();
+
+        onContext(vertx, () -> {
+            val batcher = MicroBatcher.<Integer, Integer>of(vertx, 1, 60_000, items -> {
+                batches.add(items);
+                results.add(Promise.promise());
+                return results.get(results.size() - 1).future();
+            });
+
+            Future<Integer> future0 = batcher.submit(0);
+            Future<Integer> future1 = batcher.submit(1);
+            assertNotSame(batches.get(0), batches.get(1));
+            assertEquals(Collections.singletonList(0), batches.get(0));
+
+            results.get(0).complete(Collections.singletonList(10));
+            Future<Integer> future2 = batcher.submit(2);
+            assertSame(batches.get(0), batches.get(2));
+            assertEquals(Collections.singletonList(2), batches.get(2));
+            assertEquals(Collections.singletonList(1), batches.get(1));
+
+            results.get(1).complete(Collections.singletonList(11));
+            results.get(2).complete(Collections.singletonList(12));
+            assertSucceedWith(10, future0);
+            assertSucceedWith(11, future1);
+            return future2;
+        });
+
+        assertThrows(UnsupportedOperationException.class, () -> batches.get(0).add(0));
+    }
+
+    @Test
+    void of_illegalArguments() {
+        assertThrows(IllegalArgumentException.class, () -> MicroBatcher.of(vertx, 0, 10, items -> null));
+        assertThrows(IllegalArgumentException.class, () -> MicroBatcher.of(vertx, 10, 0, items -> null));
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.future;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import lombok.val;
+import me.hltj.vertx.FutureUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static java.util.Arrays.asList;
+import static me.hltj.vertx.SharedTestUtils.assertFailedWith;
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuorumTest {
+
+    @Test
+    void succeeded() {
+        val promise0 = Promise.<String>promise();
+        val promise1 = Promise.<String>promise();
+        val promise2 = Promise.<String>promise();
+        val cancelled = new ArrayList<Integer>();
+        val future = FutureUtils.quorum(
+                2, asList(promise0.future(), promise1.future(), promise2.future()), cancelled::add
+        );
+
+        promise2.complete("c");
+        assertFalse(future.isComplete());
+        promise0.complete("a");
+        assertTrue(future.succeeded());
+
+        val quorum = future.result();
+        assertEquals(2, quorum.size());
+        assertArrayEquals(new int[]{2, 0}, quorum.indices());
+        assertEquals(asList("c", "a"), quorum.values());
+        assertEquals(2, quorum.index(0));
+        assertEquals("a", quorum.value(1));
+        assertEquals(asList(1), cancelled);
+
+        promise1.complete("b");
+        assertEquals(asList("c", "a"), future.result().values());
+    }
+
+    @Test
+    void succeeded_afterFailure() {
+        val future = FutureUtils.quorum(2, asList(
+                Future.failedFuture("0"), Future.succeededFuture(1), Future.succeededFuture(2)
+        ));
+        assertTrue(future.succeeded());
+        assertArrayEquals(new int[]{1, 2}, future.result().indices());
+    }
+
+    @Test
+    void failed() {
+        val promise = Promise.<Integer>promise();
+        val cancelled = new ArrayList<Integer>();
+        val future = FutureUtils.quorum(2, asList(
+                Future.failedFuture("0"), promise.future(), Future.failedFuture("2")
+        ), cancelled::add);
+
+        assertFailedWith("2", future);
+        assertEquals(asList(1), cancelled);
+    }
+
+    @Test
+    void preCompleted() {
+        val cancelled = new ArrayList<Integer>();
+        val future = FutureUtils.quorum(
+                1, asList(Future.succeededFuture(1), Future.succeededFuture(2)), cancelled::add
+        );
+        assertEquals(asList(1), future.result().values());
+        assertTrue(cancelled.isEmpty());
+
+        val promise = Promise.<Integer>promise();
+        FutureUtils.quorum(
+                1, asList(Future.succeededFuture(1), promise.future(), Future.failedFuture("2")), cancelled::add
+        );
+        assertEquals(asList(1), cancelled);
+    }
+
+    @Test
+    void anyAndAll() {
+        assertEquals(asList(1), FutureUtils.quorum(1, asList(
+                Future.failedFuture("0"), Future.succeededFuture(1)
+        )).result().values());
+
+        assertFailedWith("0", FutureUtils.quorum(2, asList(
+                Future.failedFuture("0"), Future.succeededFuture(1)
+        )));
+    }
+
+    @Test
+    void illegalK() {
+        val futures = asList(Future.succeededFuture(0), Future.succeededFuture(1));
+        assertThrows(IllegalArgumentException.class, () -> FutureUtils.quorum(0, futures));
+        assertThrows(IllegalArgumentException.class, () -> FutureUtils.quorum(3, futures));
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.future;
+
+import io.vertx.core.Future;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import static me.hltj.vertx.SharedTestUtils.assertFailedWith;
+import static org.junit.jupiter.api.Assertions.*;
+
+class StacklessExceptionTest {
+
+    @Test
+    void stackless() {
+        val cause = new IllegalArgumentException("cause");
+        val exception = new StacklessException("error", cause);
+
+        assertEquals("error", exception.getMessage());
+        assertSame(cause, exception.getCause());
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals(0, exception.fillInStackTrace().getStackTrace().length);
+
+        exception.addSuppressed(cause);
+        assertArrayEquals(new Throwable[]{cause}, exception.getSuppressed());
+    }
+
+    @Test
+    void messages() {
+        assertEquals(0, new MissingResultException("no result").getStackTrace().length);
+    }
+
+    @Test
+    void failedFuture() {
+        assertFailedWith("no result", Future.failedFuture(new MissingResultException("no result")));
+        assertFailedWith(StacklessException.class, Future.failedFuture(new MissingResultException("no result")));
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.metrics;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import lombok.val;
+import me.hltj.vertx.FutureUtils;
+import me.hltj.vertx.future.FutureTuple2;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.*;
+
+class AssemblyTraceTest {
+    private AssemblyTrace trace = null;
+
+    @AfterEach
+    void tearDown() {
+        if (trace != null) {
+            trace.disable();
+        }
+    }
+
+    @Test
+    void attach_notEnabled() {
+        Promise<Integer> promise = Promise.promise();
+        FutureUtils.joinWrap(promise::future);
+
+        promise.fail(new IllegalStateException("error"));
+        assertEquals(0, promise.future().cause().getSuppressed().length);
+    }
+
+    @Test
+    void enable_twice() {
+        trace = AssemblyTrace.enable(1, 5);
+        assertThrows(IllegalStateException.class, () -> AssemblyTrace.enable(1, 5));
+    }
+
+    @Test
+    void enable_illegalArguments() {
+        assertThrows(IllegalArgumentException.class, () -> AssemblyTrace.enable(1.5, 5));
+        assertThrows(IllegalArgumentException.class, () -> AssemblyTrace.enable(1, 0));
+    }
+
+    @Test
+    void joinWrap() {
+        trace = AssemblyTrace.enable(1, 2);
+        Promise<Integer> promise = Promise.promise();
+        val future = FutureUtils.joinWrap(promise::future);
+
+        promise.fail(new IllegalStateException("error"));
+        val suppressed = future.cause().getSuppressed();
+        assertEquals(1, suppressed.length);
+        assertTrue(suppressed[0] instanceof AssemblyTraceException);
+        assertEquals("assembled by FutureUtils.joinWrap", suppressed[0].getMessage());
+
+        val frames = suppressed[0].getStackTrace();
+        assertEquals(2, frames.length);
+        assertEquals(AssemblyTraceTest.class.getName(), frames[0].getClassName());
+        assertEquals("joinWrap", frames[0].getMethodName());
+    }
+
+    @Test
+    void applift() {
+        trace = AssemblyTrace.enable(1, 5);
+        Promise<Integer> promise = Promise.promise();
+        val future = FutureTuple2.of(promise.future(), Future.succeededFuture("a")).join().applift((i, s) -> s + i);
+
+        promise.fail(new IllegalStateException("error"));
+        assertTrue(future.failed());
+        val messages = Arrays.stream(future.cause().getSuppressed())
+                .map(Throwable::getMessage)
+                .collect(Collectors.toList());
+        assertEquals(
+                asList("assembled by FutureTuple2.compose", "assembled by CompositeFutureTuple2.applift"), messages
+        );
+    }
+
+    @Test
+    void sharedFailure() {
+        trace = AssemblyTrace.enable(1, 5);
+        Promise<Integer> promise = Promise.promise();
+        FutureUtils.joinWrap(promise::future);
+
+        promise.fail("rejected");
+        assertEquals(0, promise.future().cause().getSuppressed().length);
+    }
+
+    @Test
+    void sharedCause_capped() {
+        trace = AssemblyTrace.enable(1, 5);
+        val cause = new IllegalStateException("error");
+        for (int i = 0; i < AssemblyTrace.MAX_ATTACHED + 2; i++) {
+            Promise<Integer> promise = Promise.promise();
+            FutureUtils.joinWrap(promise::future);
+            promise.fail(cause);
+        }
+
+        assertEquals(AssemblyTrace.MAX_ATTACHED, cause.getSuppressed().length);
+    }
+
+    @Test
+    void sampleRate_zero() {
+        trace = AssemblyTrace.enable(0, 5);
+        Promise<Integer> promise = Promise.promise();
+        FutureUtils.joinWrap(promise::future);
+
+        promise.fail(new IllegalStateException("error"));
+        assertEquals(0, promise.future().cause().getSuppressed().length);
+    }
+}
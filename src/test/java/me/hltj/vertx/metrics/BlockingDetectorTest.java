@@ -0,0 +1,52 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BlockingDetectorTest {
+
+    @Test
+    void timed_notEnabled() {
+        Supplier<Integer> supplier = () -> 1;
+        Function<Integer, Integer> function = x -> x;
+        assertSame(supplier, BlockingDetector.timed("label", supplier));
+        assertSame(function, BlockingDetector.timed("label", function));
+    }
+
+    @Test
+    void enable_illegalArguments() {
+        assertThrows(IllegalArgumentException.class, () -> BlockingDetector.enable(-1, 1));
+        assertThrows(IllegalArgumentException.class, () -> BlockingDetector.enable(5, -0.5));
+    }
+
+    @Test
+    void enable_noSpi() {
+        assertThrows(IllegalStateException.class, () -> BlockingDetector.enable(5, 1));
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.metrics;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import lombok.val;
+import me.hltj.vertx.FutureUtils;
+import me.hltj.vertx.future.FutureTuple2;
+import me.hltj.vertx.future.FutureTuple3;
+import me.hltj.vertx.metrics.FallbackCounters.Snapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.*;
+
+class FallbackCountersTest {
+
+    @BeforeEach
+    void setUp() {
+        FallbackCounters.reset();
+        FallbackCounters.enable();
+    }
+
+    @AfterEach
+    void tearDown() {
+        FallbackCounters.disable();
+        FallbackCounters.reset();
+    }
+
+    @Test
+    void defaultWith() {
+        FutureUtils.defaultWith(Future.succeededFuture(1), 0);
+        FutureUtils.defaultWith(Future.succeededFuture(), 0);
+        FutureUtils.<Integer>defaultWith(Future.failedFuture("error"), () -> 0);
+
+        assertEquals(new Snapshot(3, 1, 0), FallbackCounters.snapshot("FutureUtils.defaultWith"));
+    }
+
+    @Test
+    void fallbackWith() {
+        FutureUtils.fallbackWith(Future.succeededFuture(1), 0);
+        FutureUtils.fallbackWith(Future.succeededFuture(), 0);
+        FutureUtils.fallbackWith(Future.failedFuture("error"), 0);
+        FutureUtils.<Integer>fallbackWith(Future.failedFuture("error"), t -> 0, () -> 0);
+
+        val snapshot = FallbackCounters.snapshot("FutureUtils.fallbackWith");
+        assertEquals(new Snapshot(4, 1, 2), snapshot);
+        assertEquals(3, snapshot.hits());
+        assertEquals(0.75, snapshot.hitRate());
+        assertEquals(asList("FutureUtils.fallbackWith"), asList(FallbackCounters.snapshot().keySet().toArray()));
+    }
+
+    @Test
+    void tuple() {
+        FutureTuple2.of(Future.<Integer>succeededFuture(), Future.succeededFuture("a")).defaults(() -> {}, 0, "b");
+        FutureTuple2.of(Future.<Integer>failedFuture("error"), Future.<String>succeededFuture())
+                .fallback(t -> {}, () -> {}, 0, "b");
+
+        FutureTuple3.of(Future.succeededFuture(1), Future.<Integer>succeededFuture(), Future.succeededFuture(3))
+                .defaults(0, 0, 0);
+
+        assertEquals(new Snapshot(2, 1, 0), FallbackCounters.snapshot("FutureTuple2.defaults"));
+        assertEquals(new Snapshot(2, 1, 1), FallbackCounters.snapshot("FutureTuple2.fallback"));
+        assertEquals(new Snapshot(3, 1, 0), FallbackCounters.snapshot("FutureTuple3.defaults"));
+        assertEquals(new Snapshot(0, 0, 0), FallbackCounters.snapshot("FutureUtils.defaultWith"));
+        assertEquals(new Snapshot(0, 0, 0), FallbackCounters.snapshot("FutureUtils.fallbackWith"));
+    }
+
+    @Test
+    void labeled() {
+        val future = FallbackCounters.labeled("user-service", () ->
+                FallbackCounters.labeled("inner", () -> FutureUtils.fallbackWith(Future.succeededFuture(), 0))
+                        .compose(x -> FutureUtils.fallbackWith(Future.failedFuture("error"), x))
+        );
+
+        assertEquals(0, future.result());
+        assertEquals(new Snapshot(1, 1, 0), FallbackCounters.snapshot("inner"));
+        assertEquals(new Snapshot(1, 0, 1), FallbackCounters.snapshot("user-service"));
+        assertEquals(asList("inner", "user-service"), asList(FallbackCounters.snapshot().keySet().toArray()));
+    }
+
+    @Test
+    void pending() {
+        Promise<Integer> promise = Promise.promise();
+        FutureUtils.fallbackWith(promise.future(), 0);
+        assertEquals(new Snapshot(0, 0, 0), FallbackCounters.snapshot("FutureUtils.fallbackWith"));
+
+        promise.fail("error");
+        assertEquals(new Snapshot(1, 0, 1), FallbackCounters.snapshot("FutureUtils.fallbackWith"));
+    }
+
+    @Test
+    void disabled() {
+        FallbackCounters.disable();
+        assertFalse(FallbackCounters.isEnabled());
+        FutureUtils.fallbackWith(Future.failedFuture("error"), 0);
+
+        assertTrue(FallbackCounters.snapshot().isEmpty());
+        assertEquals(0, FallbackCounters.snapshot("FutureUtils.fallbackWith").hitRate());
+    }
+}
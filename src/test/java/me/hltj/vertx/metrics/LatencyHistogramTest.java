@@ -0,0 +1,94 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.metrics;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void index() {
+        assertEquals(0, LatencyHistogram.index(-1));
+        assertEquals(0, LatencyHistogram.index(0));
+        assertEquals(15, LatencyHistogram.index(15));
+        assertEquals(16, LatencyHistogram.index(16));
+        assertEquals(31, LatencyHistogram.index(31));
+        assertEquals(32, LatencyHistogram.index(32));
+        assertEquals(32, LatencyHistogram.index(33));
+        assertEquals(959, LatencyHistogram.index(Long.MAX_VALUE));
+    }
+
+    @Test
+    void upperBound() {
+        assertEquals(15, LatencyHistogram.upperBound(15));
+        assertEquals(31, LatencyHistogram.upperBound(31));
+        assertEquals(33, LatencyHistogram.upperBound(32));
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.upperBound(959));
+
+        for (long value = 1; value > 0 && value < Long.MAX_VALUE / 3; value = value * 3 + 1) {
+            val upperBound = LatencyHistogram.upperBound(LatencyHistogram.index(value));
+            assertTrue(upperBound >= value);
+            assertTrue(upperBound - value <= value / 16);
+        }
+    }
+
+    @Test
+    void percentiles() {
+        val histogram = new LatencyHistogram();
+        assertArrayEquals(new long[]{0, 0}, histogram.percentiles(0.5, 0.99));
+
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+
+        assertEquals(1000, histogram.count());
+        val percentiles = histogram.percentiles(0, 0.5, 0.9, 0.99, 0.999, 1);
+        assertEquals(1023, percentiles[0]);
+        assertNear(500_000, percentiles[1]);
+        assertNear(900_000, percentiles[2]);
+        assertNear(990_000, percentiles[3]);
+        assertNear(999_000, percentiles[4]);
+        assertNear(1_000_000, percentiles[5]);
+    }
+
+    @Test
+    void merge() {
+        val histogram0 = new LatencyHistogram();
+        val histogram1 = new LatencyHistogram();
+        histogram0.record(10);
+        histogram1.record(10);
+        histogram1.record(1000);
+
+        histogram0.merge(histogram1);
+        assertEquals(3, histogram0.count());
+        assertEquals(2, histogram1.count());
+        assertArrayEquals(new long[]{10, 1023}, histogram0.percentiles(0.5, 1));
+    }
+
+    private static void assertNear(long expected, long actual) {
+        assertTrue(actual >= expected && actual - expected <= expected / 16, expected + " ~ " + actual);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.metrics;
+
+import lombok.val;
+import me.hltj.vertx.metrics.FutureMetrics.Outcome;
+import me.hltj.vertx.metrics.MetricsRegistry.Snapshot;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsRegistryTest {
+
+    @Test
+    void global() {
+        assertSame(MetricsRegistry.global(), MetricsRegistry.global());
+    }
+
+    @Test
+    void snapshot() {
+        val registry = new MetricsRegistry();
+        assertEquals(new Snapshot(0, 0, 0, 0, 0), registry.snapshot("FutureUtils.wrap"));
+
+        for (int i = 0; i < 100; i++) {
+            registry.record("FutureUtils.wrap", Outcome.SUCCESS, 10);
+        }
+        registry.record("FutureUtils.wrap", Outcome.FAILURE, 1000);
+        registry.record("CompositeFutureTuple2.applift", Outcome.SUCCESS, 5);
+
+        assertEquals(new Snapshot(101, 10, 10, 10, 1023), registry.snapshot("FutureUtils.wrap"));
+        val snapshots = registry.snapshot();
+        assertEquals(asList("CompositeFutureTuple2.applift", "FutureUtils.wrap"), new ArrayList<>(snapshots.keySet()));
+        assertEquals(new Snapshot(1, 5, 5, 5, 5), snapshots.get("CompositeFutureTuple2.applift"));
+
+        registry.reset();
+        assertTrue(registry.snapshot().isEmpty());
+    }
+
+    @Test
+    void slots() {
+        val registry = new MetricsRegistry();
+        registry.recordSlot("load", 0, 5);
+        registry.recordSlot("load", 1, 10);
+        registry.recordSlot("load", 1, 10);
+        registry.recordCriticalSlot("load", 1, 10);
+        registry.record("FutureUtils.wrap", Outcome.SUCCESS, 10);
+
+        val snapshots = registry.snapshot();
+        assertEquals(
+                asList("FutureUtils.wrap", "load#0", "load#1", "load#1#critical"), new ArrayList<>(snapshots.keySet())
+        );
+        assertEquals(new Snapshot(1, 5, 5, 5, 5), snapshots.get("load#0"));
+        assertEquals(new Snapshot(2, 10, 10, 10, 10), registry.snapshot("load#1"));
+        assertEquals(new Snapshot(1, 10, 10, 10, 10), registry.snapshot("load#1#critical"));
+    }
+
+    @Test
+    void slots_cached() {
+        val registry = new MetricsRegistry();
+        registry.recordCriticalSlot("load", 2, 5);
+        registry.recordSlot("load", 0, 5);
+        registry.recordCriticalSlot("load", 2, 5);
+        assertEquals(new Snapshot(2, 5, 5, 5, 5), registry.snapshot("load#2#critical"));
+        assertEquals(new Snapshot(1, 5, 5, 5, 5), registry.snapshot("load#0"));
+
+        registry.reset();
+        registry.recordSlot("load", 0, 10);
+        assertEquals(asList("load#0"), new ArrayList<>(registry.snapshot().keySet()));
+        assertEquals(new Snapshot(1, 10, 10, 10, 10), registry.snapshot("load#0"));
+    }
+
+    @Test
+    void concurrent() throws InterruptedException {
+        val registry = new MetricsRegistry();
+        val threads = new ArrayList<Thread>();
+        for (int t = 0; t < 4; t++) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    registry.record("op", Outcome.SUCCESS, 100);
+                }
+            }));
+        }
+
+        threads.forEach(Thread::start);
+        for (val thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(new Snapshot(40_000, 103, 103, 103, 103), registry.snapshot("op"));
+    }
+}
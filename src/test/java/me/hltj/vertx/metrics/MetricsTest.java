@@ -0,0 +1,67 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.metrics;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import lombok.val;
+import me.hltj.vertx.FutureUtils;
+import org.junit.jupiter.api.Test;
+
+import static me.hltj.vertx.SharedTestUtils.assertSucceedWith;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsTest {
+
+    @Test
+    void spi_none() {
+        assertNull(Metrics.SPI);
+    }
+
+    @Test
+    void noSpi_passThrough() {
+        val future = Promise.<Integer>promise().future();
+        assertSame(future, Metrics.assembled("label", future));
+
+        assertSucceedWith(1, FutureUtils.wrap(() -> 1));
+        assertSucceedWith(2, FutureUtils.joinWrap(() -> Future.succeededFuture(2)));
+        assertSucceedWith(3, FutureUtils.fallbackWith(Future.failedFuture("error"), 3));
+    }
+
+    @Test
+    void diagnosing() {
+        assertFalse(Metrics.diagnosing());
+
+        val trace = AssemblyTrace.enable(1, 5);
+        FallbackCounters.enable();
+        assertTrue(Metrics.diagnosing());
+        assertTrue(FallbackCounters.isEnabled());
+
+        trace.disable();
+        assertTrue(Metrics.diagnosing());
+
+        FallbackCounters.disable();
+        assertFalse(Metrics.diagnosing());
+        assertFalse(FallbackCounters.isEnabled());
+    }
+}
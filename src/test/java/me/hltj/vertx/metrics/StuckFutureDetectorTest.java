@@ -0,0 +1,165 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.metrics;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import lombok.val;
+import me.hltj.vertx.FutureUtils;
+import me.hltj.vertx.future.FutureTuple2;
+import me.hltj.vertx.metrics.StuckFutureDetector.StuckFuture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.*;
+
+class StuckFutureDetectorTest {
+    private final Vertx vertx = Vertx.vertx();
+    private final List<StuckFuture> reports = Collections.synchronizedList(new ArrayList<>());
+    private StuckFutureDetector detector = null;
+
+    @AfterEach
+    void tearDown() {
+        if (detector != null) {
+            detector.disable();
+        }
+        vertx.close();
+    }
+
+    @Test
+    void track_notEnabled() {
+        Future<Integer> future = Promise.<Integer>promise().future();
+        assertSame(future, StuckFutureDetector.track("label", future));
+    }
+
+    @Test
+    void enable_twice() {
+        detector = StuckFutureDetector.enable(vertx, 1000, 1, reports::add);
+        assertThrows(IllegalStateException.class, () -> StuckFutureDetector.enable(vertx, 1000, 1, reports::add));
+    }
+
+    @Test
+    void enable_illegalArguments() {
+        assertThrows(IllegalArgumentException.class, () -> StuckFutureDetector.enable(vertx, 0, 1, reports::add));
+        assertThrows(IllegalArgumentException.class, () -> StuckFutureDetector.enable(vertx, 1000, 2, reports::add));
+    }
+
+    @Test
+    void futurize() throws InterruptedException {
+        detector = StuckFutureDetector.enable(vertx, 20, 1, reports::add);
+        val handler = new AtomicReference<Handler<AsyncResult<Integer>>>();
+        Future<Integer> future = FutureUtils.futurize(handler::set);
+        assertEquals(1, detector.pending());
+
+        await(() -> !reports.isEmpty());
+        Thread.sleep(100);
+        assertEquals(1, reports.size());
+        val report = reports.get(0);
+        assertEquals("FutureUtils.futurize", report.getLabel());
+        assertTrue(report.getAgeMs() >= 20);
+        assertFalse(report.isCollected());
+        assertEquals("created by FutureUtils.futurize", report.getCreationTrace().getMessage());
+
+        handler.get().handle(Future.succeededFuture(1));
+        assertEquals(1, future.result());
+        assertEquals(0, detector.pending());
+    }
+
+    @Test
+    void completed() {
+        detector = StuckFutureDetector.enable(vertx, 1000, 1, reports::add);
+        FutureUtils.futurize(h -> h.handle(Future.succeededFuture(1)));
+        FutureUtils.joinWrap(() -> Future.succeededFuture(1));
+        assertEquals(0, detector.pending());
+    }
+
+    @Test
+    void tuple() {
+        detector = StuckFutureDetector.enable(vertx, 20, 1, reports::add);
+        Promise<Integer> promise = Promise.promise();
+        FutureTuple2.of(promise.future(), Future.succeededFuture("a")).join().applift((i, s) -> s + i);
+        assertEquals(2, detector.pending());
+
+        await(() -> reports.size() >= 2);
+        val labels = reports.stream().map(StuckFuture::getLabel).sorted().collect(Collectors.toList());
+        assertEquals(asList("CompositeFutureTuple2.applift", "FutureTuple2.compose"), labels);
+
+        promise.complete(1);
+        assertEquals(0, detector.pending());
+    }
+
+    @Test
+    void collected() {
+        detector = StuckFutureDetector.enable(vertx, 20, 1, reports::add);
+        FutureUtils.futurize(h -> {});
+        assertEquals(1, detector.pending());
+
+        await(() -> {
+            System.gc();
+            return reports.stream().anyMatch(StuckFuture::isCollected);
+        });
+        val report = reports.stream().filter(StuckFuture::isCollected).findFirst().get();
+        assertEquals("FutureUtils.futurize", report.getLabel());
+        assertEquals(0, detector.pending());
+    }
+
+    @Test
+    void sampleRate_zero() {
+        detector = StuckFutureDetector.enable(vertx, 1000, 0, reports::add);
+        FutureUtils.futurize(h -> {});
+        assertEquals(0, detector.pending());
+    }
+
+    @Test
+    void disable() {
+        detector = StuckFutureDetector.enable(vertx, 1000, 1, reports::add);
+        detector.disable();
+
+        FutureUtils.futurize(h -> {});
+        assertEquals(0, detector.pending());
+        detector = StuckFutureDetector.enable(vertx, 1000, 1, reports::add);
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline);
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StackFramesTest {
+
+    @Test
+    void capture() {
+        StackTraceElement[] frames = StackFrames.capture(3);
+
+        assertEquals(3, frames.length);
+        assertEquals(StackFramesTest.class.getName(), frames[0].getClassName());
+        assertEquals("capture", frames[0].getMethodName());
+    }
+
+    @Test
+    void capture_walker() throws NoSuchFieldException {
+        // loaded from the multi-release part of the jar rather than from the base one
+        assertTrue(StackFrames.class.getProtectionDomain().getCodeSource().getLocation().getPath().endsWith(".jar"));
+        assertEquals(StackWalker.class, StackFrames.class.getDeclaredField("WALKER").getType());
+    }
+}
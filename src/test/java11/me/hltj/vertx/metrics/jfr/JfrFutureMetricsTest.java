@@ -0,0 +1,129 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.metrics.jfr;
+
+import io.vertx.core.Future;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import me.hltj.vertx.FutureUtils;
+import me.hltj.vertx.future.FutureTuple2;
+import me.hltj.vertx.metrics.FutureMetrics.Outcome;
+import me.hltj.vertx.metrics.Metrics;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JfrFutureMetricsTest {
+
+    @Test
+    void arity() {
+        assertEquals(1, JfrFutureMetrics.arity("FutureUtils.wrap"));
+        assertEquals(3, JfrFutureMetrics.arity("CompositeFutureTuple3.applift"));
+        assertEquals(2, JfrFutureMetrics.arity("FutureTuple2"));
+        assertEquals(1, JfrFutureMetrics.arity("label"));
+    }
+
+    @Test
+    void record() throws IOException {
+        List<RecordedEvent> events = record(() -> {
+            JfrFutureMetrics metrics = new JfrFutureMetrics();
+            metrics.record("CompositeFutureTuple3.applift", Outcome.SUCCESS, 1000);
+            metrics.record("FutureUtils.fallbackWith", Outcome.FALLBACK, 2000);
+        });
+
+        List<RecordedEvent> combinatorEvents = events("me.hltj.vertx.FutureCombinator", events);
+        assertEquals(2, combinatorEvents.size());
+        assertEquals("CompositeFutureTuple3.applift", combinatorEvents.get(0).getString("operation"));
+        assertEquals(3, combinatorEvents.get(0).getInt("arity"));
+        assertEquals("SUCCESS", combinatorEvents.get(0).getString("outcome"));
+        assertEquals(1000, combinatorEvents.get(0).getDuration("latency").toNanos());
+        assertEquals("FALLBACK", combinatorEvents.get(1).getString("outcome"));
+
+        List<RecordedEvent> fallbackEvents = events("me.hltj.vertx.FallbackTriggered", events);
+        assertEquals(1, fallbackEvents.size());
+        assertEquals("FutureUtils.fallbackWith", fallbackEvents.get(0).getString("operation"));
+        assertEquals(1, fallbackEvents.get(0).getInt("arity"));
+        assertEquals(2000, fallbackEvents.get(0).getDuration("latency").toNanos());
+    }
+
+    @Test
+    void record_disabled() throws IOException {
+        Path path = Files.createTempFile("future-utils", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.disable("me.hltj.vertx.FutureCombinator");
+            recording.start();
+            new JfrFutureMetrics().record("FutureUtils.wrap", Outcome.SUCCESS, 1000);
+            recording.stop();
+            recording.dump(path);
+
+            assertTrue(events("me.hltj.vertx.FutureCombinator", RecordingFile.readAllEvents(path)).isEmpty());
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    void metrics() throws IOException {
+        assertTrue(Metrics.SPI instanceof JfrFutureMetrics);
+
+        List<RecordedEvent> events = record(() -> {
+            FutureUtils.fallbackWith(Future.failedFuture("error"), 0);
+            FutureTuple2.of(Future.succeededFuture(1), Future.succeededFuture("a")).join().applift((i, s) -> s + i);
+        });
+
+        List<String> operations = events("me.hltj.vertx.FutureCombinator", events).stream()
+                .map(event -> event.getString("operation"))
+                .collect(Collectors.toList());
+        assertTrue(operations.contains("FutureUtils.fallbackWith"));
+        assertTrue(operations.contains("CompositeFutureTuple2.applift"));
+        assertEquals(1, events("me.hltj.vertx.FallbackTriggered", events).size());
+    }
+
+    private static List<RecordedEvent> record(Runnable runnable) throws IOException {
+        Path path = Files.createTempFile("future-utils", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("me.hltj.vertx.FutureCombinator");
+            recording.enable("me.hltj.vertx.FallbackTriggered");
+            recording.start();
+            runnable.run();
+            recording.stop();
+            recording.dump(path);
+            return RecordingFile.readAllEvents(path);
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    private static List<RecordedEvent> events(String name, List<RecordedEvent> events) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .collect(Collectors.toList());
+    }
+}
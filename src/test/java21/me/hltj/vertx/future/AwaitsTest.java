@@ -0,0 +1,121 @@
+/*
+ * vertx-future-utils - Convenient Utilities for Vert.x Future
+ * https://github.com/hltj/vertx-future-utils
+ *
+ * Copyright (C) 2020  JiaYanwei  https://hltj.me
+ *
+ * This code is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This code is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ * Please contact me (jiaywe#at#gmail.com, replace the '#at#' with 'at')
+ * if you need additional information or have any questions.
+ */
+package me.hltj.vertx.future;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import me.hltj.vertx.FutureUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AwaitsTest {
+
+    @Test
+    void versioned() throws IOException {
+        // loaded from the multi-release part of the jar rather than from the base one
+        assertTrue(Awaits.class.getProtectionDomain().getCodeSource().getLocation().getPath().endsWith(".jar"));
+        try (var in = new DataInputStream(Awaits.class.getResourceAsStream("Awaits.class"))) {
+            in.skipBytes(6);
+            assertEquals(65, in.readUnsignedShort()); // the class file version of Java 21
+        }
+    }
+
+    @Test
+    void await_succeeded() throws Exception {
+        Vertx vertx = Vertx.vertx();
+        try {
+            Promise<Integer> promise = Promise.promise();
+            vertx.setTimer(50, _id -> promise.complete(42));
+            assertEquals(42, onVirtualThread(() -> FutureUtils.await(promise.future())));
+            assertEquals(1, onVirtualThread(() -> FutureUtils.await(Future.succeededFuture(1))));
+        } finally {
+            vertx.close();
+        }
+    }
+
+    @Test
+    void await_failed() throws Exception {
+        Vertx vertx = Vertx.vertx();
+        try {
+            Promise<Integer> promise = Promise.promise();
+            vertx.setTimer(50, _id -> promise.fail(new IllegalArgumentException("bad")));
+            Throwable unchecked = onVirtualThread(() -> assertThrows(
+                    IllegalArgumentException.class, () -> FutureUtils.await(promise.future())
+            ));
+            assertEquals("bad", unchecked.getMessage());
+
+            Throwable checked = onVirtualThread(() -> assertThrows(
+                    CompletionException.class, () -> FutureUtils.await(Future.failedFuture(new IOException("io")))
+            ));
+            assertTrue(checked.getCause() instanceof IOException);
+        } finally {
+            vertx.close();
+        }
+    }
+
+    @Test
+    void await_platformThread() {
+        IllegalStateException e = assertThrows(
+                IllegalStateException.class, () -> FutureUtils.await(Future.succeededFuture(1))
+        );
+        assertTrue(e.getMessage().startsWith("await can only be called on a virtual thread"));
+    }
+
+    @Test
+    void await_tuple() throws Exception {
+        Vertx vertx = Vertx.vertx();
+        try {
+            Promise<Integer> promise = Promise.promise();
+            vertx.setTimer(50, _id -> promise.complete(2));
+            CompositeFutureTuple2<Integer, Integer> all = FutureUtils.all(Future.succeededFuture(1), promise.future());
+            FutureTuple2<Integer, Integer> tuple = onVirtualThread(all::await);
+            assertEquals(3, tuple.get_0().result() + tuple.get_1().result());
+
+            CompositeFutureTuple3<Integer, Integer, String> failed = FutureUtils.all(
+                    Future.succeededFuture(1), Future.succeededFuture(2),
+                    Future.failedFuture(new IllegalStateException("x"))
+            );
+            assertEquals("x", onVirtualThread(() -> assertThrows(IllegalStateException.class, failed::await))
+                    .getMessage());
+        } finally {
+            vertx.close();
+        }
+    }
+
+    private static <T> T onVirtualThread(Callable<T> body) throws Exception {
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            return executor.submit(body).get();
+        } catch (ExecutionException e) {
+            throw (Exception) e.getCause();
+        }
+    }
+}